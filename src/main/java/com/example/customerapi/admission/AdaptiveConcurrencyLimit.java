@@ -0,0 +1,138 @@
+package com.example.customerapi.admission;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gradient-style adaptive concurrency limit.
+ * Latency is averaged over a short window of completions per endpoint and
+ * compared with that endpoint's long-window baseline. The limit grows while the
+ * two stay close and shrinks in proportion once requests start queueing.
+ * A window that never had at least half the limit in flight says nothing about
+ * queueing, so it leaves the limit alone (the service is app-limited, not congested).
+ * One in-flight pool is shared by all endpoints, but each endpoint is compared
+ * against its own baseline, so a cheap endpoint does not make slower but
+ * healthy endpoints look congested.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final int windowSize;
+    private final double baselineWeight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    private volatile double limit;
+
+    /**
+     * @param windowSize      completions averaged into one latency sample per endpoint
+     * @param baselineWindows number of windows the long-term baseline averages over
+     */
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing,
+                                    int windowSize, int baselineWindows) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (windowSize < 1 || baselineWindows < 1) {
+            throw new IllegalArgumentException("Window sizes must be at least 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.windowSize = windowSize;
+        this.baselineWeight = 2.0 / (baselineWindows + 1);
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Reserves a slot if fewer than {@code share * limit} requests are in flight.
+     * A share below 1.0 lets lower-priority traffic be shed before the limit is reached.
+     */
+    public boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a slot and feeds the round-trip time observed for {@code endpoint} into the limit.
+     * Only the completion that closes a window touches the limit; the rest just add to their endpoint's window.
+     */
+    public void release(String endpoint, long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        if (rttNanos <= 0) {
+            return;
+        }
+        Window window = windows.computeIfAbsent(endpoint, key -> new Window());
+        double gradient = window.sample(rttNanos, inFlightAtCompletion);
+        if (!Double.isNaN(gradient)) {
+            update(gradient);
+        }
+    }
+
+    private synchronized void update(double gradient) {
+        double queueSize = Math.sqrt(limit);
+        double target = limit * gradient + queueSize;
+        double next = limit * (1 - smoothing) + target * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Short latency window and long-term baseline for one endpoint.
+     */
+    private final class Window {
+
+        private double baselineRttNanos = Double.NaN;
+        private long sumRttNanos;
+        private int samples;
+        private int maxInFlight;
+
+        /**
+         * Adds a completion; returns the gradient when it closes a window that saw real demand, NaN otherwise.
+         */
+        private synchronized double sample(long rttNanos, int inFlightAtCompletion) {
+            sumRttNanos += rttNanos;
+            maxInFlight = Math.max(maxInFlight, inFlightAtCompletion);
+            if (++samples < windowSize) {
+                return Double.NaN;
+            }
+            double shortRttNanos = (double) sumRttNanos / samples;
+            boolean appLimited = maxInFlight < limit / 2;
+            sumRttNanos = 0;
+            samples = 0;
+            maxInFlight = 0;
+
+            if (Double.isNaN(baselineRttNanos)) {
+                baselineRttNanos = shortRttNanos;
+                return Double.NaN;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, tolerance * baselineRttNanos / shortRttNanos));
+            baselineRttNanos = baselineRttNanos * (1 - baselineWeight) + shortRttNanos * baselineWeight;
+            if (baselineRttNanos > 2 * shortRttNanos) {
+                // Latency has recovered well below the baseline; pull it down faster than the average would
+                baselineRttNanos *= 0.95;
+            }
+            return appLimited ? Double.NaN : gradient;
+        }
+    }
+}
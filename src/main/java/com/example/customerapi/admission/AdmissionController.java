@@ -0,0 +1,120 @@
+package com.example.customerapi.admission;
+
+import com.example.customerapi.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process admission control for the customer API.
+ * A request must pass its endpoint's token bucket, its client's token bucket
+ * and the adaptive concurrency limit. Writes only get a share of the
+ * concurrency limit, so they are shed before reads when the service slows down.
+ */
+@Component
+public class AdmissionController {
+
+    private final AdmissionProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+    private final Map<String, TokenBucket> endpointBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> clientBuckets = new ConcurrentHashMap<>();
+    // Decision counters are looked up on every request, so cache them rather than rebuilding meter ids
+    private final Map<String, Counter> decisionCounters = new ConcurrentHashMap<>();
+
+    public AdmissionController(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.concurrencyLimit = new AdaptiveConcurrencyLimit(properties.getInitialLimit(), properties.getMinLimit(),
+                properties.getMaxLimit(), properties.getLatencyTolerance(), properties.getSmoothing(),
+                properties.getRttWindow(), properties.getBaselineWindows());
+        meterRegistry.gauge("customer.admission.concurrency.limit", concurrencyLimit, AdaptiveConcurrencyLimit::getLimit);
+        meterRegistry.gauge("customer.admission.inflight", concurrencyLimit, AdaptiveConcurrencyLimit::getInFlight);
+    }
+
+    /**
+     * Admits a request or throws {@link TooManyRequestsException}.
+     * The returned permit must be released once the request completes.
+     */
+    public Permit admit(String endpoint, String clientKey, Priority priority) {
+        // Client first, so a client over its own limit never spends shared endpoint tokens
+        TokenBucket clientBucket = clientBucket(clientKey);
+        long wait = clientBucket.tryAcquire();
+        if (wait > 0) {
+            reject(endpoint, priority, "client_rate", wait);
+        }
+        TokenBucket endpointBucket = endpointBucket(endpoint, priority);
+        wait = endpointBucket.tryAcquire();
+        if (wait > 0) {
+            clientBucket.refund();
+            reject(endpoint, priority, "endpoint_rate", wait);
+        }
+        double share = priority == Priority.READ ? 1.0 : properties.getWriteShare();
+        if (!concurrencyLimit.tryAcquire(share)) {
+            clientBucket.refund();
+            endpointBucket.refund();
+            reject(endpoint, priority, "concurrency", TimeUnit.SECONDS.toNanos(1));
+        }
+        record(endpoint, priority, "admitted");
+        return new Permit(concurrencyLimit, endpoint, System.nanoTime());
+    }
+
+    AdaptiveConcurrencyLimit getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    private TokenBucket endpointBucket(String endpoint, Priority priority) {
+        return endpointBuckets.computeIfAbsent(endpoint, key -> priority == Priority.READ
+                ? new TokenBucket(properties.getReadBurst(), properties.getReadRatePerSecond())
+                : new TokenBucket(properties.getWriteBurst(), properties.getWriteRatePerSecond()));
+    }
+
+    private TokenBucket clientBucket(String clientKey) {
+        TokenBucket bucket = clientBuckets.get(clientKey);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (clientBuckets.size() >= properties.getMaxTrackedClients()) {
+            // Idle clients have refilled to capacity, so dropping them loses no state
+            clientBuckets.values().removeIf(TokenBucket::isFull);
+        }
+        return clientBuckets.computeIfAbsent(clientKey,
+                key -> new TokenBucket(properties.getClientBurst(), properties.getClientRatePerSecond()));
+    }
+
+    private void reject(String endpoint, Priority priority, String reason, long waitNanos) {
+        record(endpoint, priority, reason);
+        long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        throw new TooManyRequestsException("Too many requests, retry after " + retryAfterSeconds + "s", retryAfterSeconds);
+    }
+
+    private void record(String endpoint, Priority priority, String outcome) {
+        decisionCounters.computeIfAbsent(endpoint + '|' + priority + '|' + outcome,
+                key -> meterRegistry.counter("customer.admission.decisions",
+                        "endpoint", endpoint, "priority", priority.name(), "outcome", outcome)).increment();
+    }
+
+    /**
+     * Concurrency slot held for the lifetime of an admitted request.
+     */
+    public static class Permit {
+
+        private final AdaptiveConcurrencyLimit limit;
+        private final String endpoint;
+        private final long startNanos;
+
+        Permit(AdaptiveConcurrencyLimit limit, String endpoint, long startNanos) {
+            this.limit = limit;
+            this.endpoint = endpoint;
+            this.startNanos = startNanos;
+        }
+
+        public void release() {
+            limit.release(endpoint, System.nanoTime() - startNanos);
+        }
+    }
+}
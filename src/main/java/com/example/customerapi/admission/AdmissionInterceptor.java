@@ -0,0 +1,51 @@
+package com.example.customerapi.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Runs every customer API call through the {@link AdmissionController}.
+ * Rejections surface as {@link com.example.customerapi.exception.TooManyRequestsException}
+ * and are turned into 429 responses by the exception handler.
+ */
+@Component
+public class AdmissionInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = AdmissionInterceptor.class.getName() + ".permit";
+
+    @Autowired
+    private AdmissionController admissionController;
+
+    @Autowired
+    private AdmissionProperties properties;
+
+    @Autowired
+    private ClientKeyResolver clientKeyResolver;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!properties.isEnabled() || !(handler instanceof HandlerMethod)) {
+            return true;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+        AdmissionController.Permit permit = admissionController.admit(endpoint, clientKeyResolver.resolve(request),
+                Priority.fromHttpMethod(request.getMethod()));
+        request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object permit = request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permit instanceof AdmissionController.Permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            ((AdmissionController.Permit) permit).release();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.customerapi.admission;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Tunables for the in-process admission controller, bound from {@code customer.admission.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "customer.admission")
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+
+    // Header identifying the caller; falls back to the remote address when absent
+    private String clientKeyHeader = "X-Client-Id";
+
+    // Per-endpoint token buckets, split by priority
+    private double readRatePerSecond = 2000;
+    private double readBurst = 4000;
+    private double writeRatePerSecond = 500;
+    private double writeBurst = 1000;
+
+    // Per-client token bucket shared across endpoints
+    private double clientRatePerSecond = 200;
+    private double clientBurst = 400;
+    private int maxTrackedClients = 10_000;
+
+    // Adaptive concurrency limit
+    private int initialLimit = 100;
+    private int minLimit = 10;
+    private int maxLimit = 400;
+    private double latencyTolerance = 2.0;
+    private double smoothing = 0.2;
+    // Completions averaged per latency sample, and how many samples the long-term baseline spans
+    private int rttWindow = 20;
+    private int baselineWindows = 30;
+
+    // Fraction of the concurrency limit writes may occupy; reads may use all of it
+    private double writeShare = 0.7;
+}
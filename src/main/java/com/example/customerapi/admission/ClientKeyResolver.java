@@ -0,0 +1,22 @@
+package com.example.customerapi.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Identifies the caller of a request: the {@code customer.admission.client-key-header}
+ * value when present, otherwise the remote address.
+ * Shared by per-client rate limiting and idempotency key scoping so both agree on who a client is.
+ */
+@Component
+public class ClientKeyResolver {
+
+    @Autowired
+    private AdmissionProperties properties;
+
+    public String resolve(HttpServletRequest request) {
+        String key = request.getHeader(properties.getClientKeyHeader());
+        return key != null && !key.isBlank() ? key : request.getRemoteAddr();
+    }
+}
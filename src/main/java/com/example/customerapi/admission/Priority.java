@@ -0,0 +1,13 @@
+package com.example.customerapi.admission;
+
+/**
+ * Request priority used for load shedding. Writes are shed before reads.
+ */
+public enum Priority {
+    READ,
+    WRITE;
+
+    public static Priority fromHttpMethod(String method) {
+        return "GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method) ? READ : WRITE;
+    }
+}
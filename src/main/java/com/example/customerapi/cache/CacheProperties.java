@@ -0,0 +1,21 @@
+package com.example.customerapi.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Bounds for the read-path customer cache, bound from {@code customer.cache.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "customer.cache")
+public class CacheProperties {
+
+    private int maxEntries = 10_000;
+
+    // Invalidation is per instance, so this is also how long other replicas may serve a changed customer
+    private Duration ttl = Duration.ofSeconds(2);
+
+    private int maxInternedNames = 10_000;
+}
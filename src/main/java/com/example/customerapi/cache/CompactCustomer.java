@@ -0,0 +1,56 @@
+package com.example.customerapi.cache;
+
+import com.example.customerapi.model.CustomerView;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Compact in-memory form of a customer for caching.
+ * The ID is held as two longs instead of a {@link UUID} object and each text field
+ * as a bare UTF-8 byte array instead of a {@link String}. First and last names go
+ * through a {@link NameInterner} so common names share storage.
+ */
+public final class CompactCustomer {
+
+    private final long idMostSignificantBits;
+    private final long idLeastSignificantBits;
+    private final byte[] firstName;
+    private final byte[] middleName;
+    private final byte[] lastName;
+    private final byte[] emailAddress;
+    private final byte[] phoneNumber;
+
+    private CompactCustomer(UUID id, byte[] firstName, byte[] middleName, byte[] lastName,
+                            byte[] emailAddress, byte[] phoneNumber) {
+        this.idMostSignificantBits = id.getMostSignificantBits();
+        this.idLeastSignificantBits = id.getLeastSignificantBits();
+        this.firstName = firstName;
+        this.middleName = middleName;
+        this.lastName = lastName;
+        this.emailAddress = emailAddress;
+        this.phoneNumber = phoneNumber;
+    }
+
+    public static CompactCustomer from(CustomerView view, NameInterner names) {
+        return new CompactCustomer(view.id(), names.intern(view.firstName()), encode(view.middleName()),
+                names.intern(view.lastName()), encode(view.emailAddress()), encode(view.phoneNumber()));
+    }
+
+    public UUID getId() {
+        return new UUID(idMostSignificantBits, idLeastSignificantBits);
+    }
+
+    public CustomerView toView() {
+        return new CustomerView(getId(), decode(firstName), decode(middleName), decode(lastName),
+                decode(emailAddress), decode(phoneNumber));
+    }
+
+    private static byte[] encode(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String decode(byte[] value) {
+        return value == null ? null : new String(value, StandardCharsets.UTF_8);
+    }
+}
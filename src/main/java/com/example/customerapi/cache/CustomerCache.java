@@ -0,0 +1,180 @@
+package com.example.customerapi.cache;
+
+import com.example.customerapi.model.CustomerView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, TTL-evicting cache of customers by ID for the read path.
+ * Entries are kept as {@link CompactCustomer}s in a {@link ConcurrentHashMap}, so hits take no lock.
+ * When full, the least recently used of a random sample of entries is evicted (approximate LRU).
+ * Keys are mirrored in a dense array so the sample can be drawn uniformly; only writes
+ * (fills, invalidations, expiry) lock to maintain it.
+ *
+ * Loads follow {@link #beginLoad(UUID)} / {@link #put(CustomerView, long)}: if the customer was
+ * invalidated after the load began, the put is dropped so a stale row is never re-cached.
+ * Invalidation is local to this instance; other instances may serve a customer for up to
+ * {@code customer.cache.ttl} after it changed.
+ */
+@Component
+public class CustomerCache {
+
+    private static final int EVICTION_SAMPLE = 16;
+    // Generations are striped by ID hash to keep memory bounded; a collision only skips a cache fill
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final NameInterner names;
+    // Written only under the lock on keys; read without locking
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    // keys[0..count) holds every cached ID; each entry records its index for O(1) removal
+    private final UUID[] keys;
+    private int count;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public CustomerCache(CacheProperties properties, MeterRegistry meterRegistry) {
+        this(properties.getMaxEntries(), properties.getTtl(), new NameInterner(properties.getMaxInternedNames()),
+                meterRegistry, System::nanoTime);
+    }
+
+    CustomerCache(int maxEntries, Duration ttl, NameInterner names, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.keys = new UUID[maxEntries + 1];
+        this.ttlNanos = ttl.toNanos();
+        this.names = names;
+        this.clock = clock;
+        this.hits = meterRegistry.counter("customer.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("customer.cache.requests", "result", "miss");
+        meterRegistry.gauge("customer.cache.entries", this, CustomerCache::size);
+    }
+
+    public Optional<CustomerView> get(UUID id) {
+        Entry entry = entries.get(id);
+        long now = clock.getAsLong();
+        if (entry != null && entry.expiresAtNanos - now <= 0) {
+            synchronized (keys) {
+                if (entries.get(id) == entry) {
+                    remove(id, entry);
+                }
+            }
+            entry = null;
+        }
+        if (entry == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        entry.lastAccessNanos = now;
+        hits.increment();
+        return Optional.of(entry.customer.toView());
+    }
+
+    /**
+     * Marks the start of a database load for {@code id}; pass the result to {@link #put(CustomerView, long)}.
+     */
+    public long beginLoad(UUID id) {
+        return generations.get(stripe(id));
+    }
+
+    /**
+     * Caches a customer read after {@link #beginLoad(UUID)} returned {@code generation}.
+     * Dropped if the customer was invalidated in the meantime.
+     */
+    public void put(CustomerView customer, long generation) {
+        UUID id = customer.id();
+        long now = clock.getAsLong();
+        Entry entry = new Entry(CompactCustomer.from(customer, names), now + ttlNanos, now);
+        synchronized (keys) {
+            // Checked under the lock, so invalidate()'s remove of the same key either precedes this or follows it
+            if (generations.get(stripe(id)) != generation) {
+                return;
+            }
+            Entry existing = entries.put(id, entry);
+            if (existing != null) {
+                entry.slot = existing.slot;
+            } else {
+                entry.slot = count;
+                keys[count++] = id;
+            }
+            while (count > maxEntries) {
+                evictOne();
+            }
+        }
+    }
+
+    public void invalidate(UUID id) {
+        // Bump first: a concurrent put either sees the new generation or is removed below
+        generations.incrementAndGet(stripe(id));
+        synchronized (keys) {
+            Entry entry = entries.get(id);
+            if (entry != null) {
+                remove(id, entry);
+            }
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    // Caller holds the lock on keys
+    private void evictOne() {
+        UUID victim = null;
+        Entry oldest = null;
+        boolean sampleAll = count <= EVICTION_SAMPLE;
+        for (int i = 0; i < Math.min(count, EVICTION_SAMPLE); i++) {
+            UUID candidate = keys[sampleAll ? i : ThreadLocalRandom.current().nextInt(count)];
+            Entry entry = entries.get(candidate);
+            if (oldest == null || entry.lastAccessNanos - oldest.lastAccessNanos < 0) {
+                victim = candidate;
+                oldest = entry;
+            }
+        }
+        remove(victim, oldest);
+    }
+
+    // Caller holds the lock on keys; moves the last key into the freed slot
+    private void remove(UUID id, Entry entry) {
+        entries.remove(id);
+        UUID last = keys[--count];
+        keys[count] = null;
+        if (!last.equals(id)) {
+            keys[entry.slot] = last;
+            entries.get(last).slot = entry.slot;
+        }
+    }
+
+    private static int stripe(UUID id) {
+        return (id.hashCode() & Integer.MAX_VALUE) % GENERATION_STRIPES;
+    }
+
+    private static final class Entry {
+
+        private final CompactCustomer customer;
+        private final long expiresAtNanos;
+        private volatile long lastAccessNanos;
+        // Index in keys; guarded by the lock on keys
+        private int slot;
+
+        private Entry(CompactCustomer customer, long expiresAtNanos, long lastAccessNanos) {
+            this.customer = customer;
+            this.expiresAtNanos = expiresAtNanos;
+            this.lastAccessNanos = lastAccessNanos;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.customerapi.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shares one UTF-8 encoding per distinct name, so thousands of cached "John"s
+ * point at a single byte array. The pool stops growing once full; later names
+ * are encoded without sharing. Arrays handed out must never be modified.
+ */
+public class NameInterner {
+
+    private final int maxEntries;
+    private final Map<String, byte[]> pool = new ConcurrentHashMap<>();
+
+    public NameInterner(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public byte[] intern(String name) {
+        if (name == null) {
+            return null;
+        }
+        byte[] shared = pool.get(name);
+        if (shared != null) {
+            return shared;
+        }
+        byte[] encoded = name.getBytes(StandardCharsets.UTF_8);
+        if (pool.size() >= maxEntries) {
+            return encoded;
+        }
+        byte[] previous = pool.putIfAbsent(name, encoded);
+        return previous != null ? previous : encoded;
+    }
+
+    public int size() {
+        return pool.size();
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.customerapi.config;
+
+import com.example.customerapi.admission.AdmissionInterceptor;
+import com.example.customerapi.admission.AdmissionProperties;
+import com.example.customerapi.cache.CacheProperties;
+import com.example.customerapi.idempotency.IdempotencyProperties;
+import com.example.customerapi.service.PurgeProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// Web MVC configuration: binds the customer API's tuning properties and registers the admission interceptor on the customer API
+@Configuration
+@EnableConfigurationProperties({AdmissionProperties.class, IdempotencyProperties.class, CacheProperties.class,
+        PurgeProperties.class})
+public class WebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private AdmissionInterceptor admissionInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(admissionInterceptor).addPathPatterns("/api/customers", "/api/customers/**");
+    }
+}
@@ -1,7 +1,12 @@
 package com.example.customerapi.controller;
 
+import com.example.customerapi.admission.ClientKeyResolver;
+import com.example.customerapi.idempotency.IdempotencyStore;
+import com.example.customerapi.model.BulkDeleteRequest;
 import com.example.customerapi.model.Customer;
+import com.example.customerapi.model.CustomerView;
 import com.example.customerapi.service.CustomerService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,6 +16,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 
@@ -27,20 +33,33 @@ public class CustomerController {
     @Autowired
     private CustomerService service;
 
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private ClientKeyResolver clientKeyResolver;
+
+    /**
+     * Creates a customer. A retried request carrying the same {@code Idempotency-Key}
+     * replays the original response instead of creating the customer again.
+     * Keys are scoped to the calling client.
+     */
     @PostMapping
-    public ResponseEntity<Customer> createCustomer(@Valid @RequestBody Customer customer) {
+    public ResponseEntity<Customer> createCustomer(@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                                   @Valid @RequestBody Customer customer, HttpServletRequest request) {
         logger.info("Creating customer: {}", customer);
-        return new ResponseEntity<>(service.createCustomer(customer), HttpStatus.CREATED);
+        return idempotencyStore.execute(clientKeyResolver.resolve(request), idempotencyKey, customer,
+                () -> new ResponseEntity<>(service.createCustomer(customer), HttpStatus.CREATED));
     }
 
     @GetMapping
-    public ResponseEntity<List<Customer>> getAllCustomers() {
+    public ResponseEntity<List<CustomerView>> getAllCustomers() {
         logger.info("Fetching all customers");
         return ResponseEntity.ok(service.getAllCustomers());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Customer> getCustomerById(@PathVariable UUID id) {
+    public ResponseEntity<CustomerView> getCustomerById(@PathVariable UUID id) {
         logger.info("Fetching customer with ID: {}", id);
         return ResponseEntity.ok(service.getCustomerById(id));
     }
@@ -57,4 +76,10 @@ public class CustomerController {
         service.deleteCustomer(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<Map<String, Integer>> deleteCustomers(@Valid @RequestBody BulkDeleteRequest request) {
+        logger.info("Bulk deleting {} customers", request.ids().size());
+        return ResponseEntity.ok(Map.of("deleted", service.deleteCustomers(request.ids())));
+    }
 }
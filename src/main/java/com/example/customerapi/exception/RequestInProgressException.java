@@ -0,0 +1,9 @@
+package com.example.customerapi.exception;
+
+
+public class RequestInProgressException extends RuntimeException {
+
+    public RequestInProgressException(String message) {
+        super(message);
+    }
+}
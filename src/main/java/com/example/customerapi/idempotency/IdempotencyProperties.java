@@ -0,0 +1,21 @@
+package com.example.customerapi.idempotency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Bounds for the idempotency result store, bound from {@code customer.idempotency.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "customer.idempotency")
+public class IdempotencyProperties {
+
+    private int maxEntries = 10_000;
+
+    private Duration ttl = Duration.ofHours(24);
+
+    // How long a duplicate waits for the in-flight original before getting 409 Conflict
+    private Duration waitTimeout = Duration.ofSeconds(5);
+}
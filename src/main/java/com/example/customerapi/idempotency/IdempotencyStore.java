@@ -0,0 +1,213 @@
+package com.example.customerapi.idempotency;
+
+import com.example.customerapi.exception.RequestInProgressException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, TTL-evicting store of responses keyed by client and {@code Idempotency-Key}.
+ * Keys are scoped per client, so two callers that both pick simple keys like "1" never collide.
+ * The first request for a key runs the action; concurrent duplicates wait for
+ * it, and later retries replay the stored response without running it again.
+ * Failed actions are not stored, so a retry after an error executes normally.
+ * Duplicates wait at most {@code customer.idempotency.wait-timeout} for the first
+ * request and then get a 409 instead of holding a thread indefinitely.
+ */
+@Component
+public class IdempotencyStore {
+
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final long waitTimeoutNanos;
+    private final LongSupplier clock;
+    private final ObjectMapper objectMapper;
+    // Insertion order equals expiry order because every entry gets the same TTL
+    private final LinkedHashMap<ScopedKey, Entry> entries = new LinkedHashMap<>();
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter coalesced;
+    private final Counter inProgress;
+
+    @Autowired
+    public IdempotencyStore(IdempotencyProperties properties, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this(properties, meterRegistry, objectMapper, System::nanoTime);
+    }
+
+    IdempotencyStore(IdempotencyProperties properties, MeterRegistry meterRegistry, ObjectMapper objectMapper,
+                     LongSupplier clock) {
+        this.maxEntries = properties.getMaxEntries();
+        this.ttlNanos = properties.getTtl().toNanos();
+        this.waitTimeoutNanos = properties.getWaitTimeout().toNanos();
+        this.clock = clock;
+        this.objectMapper = objectMapper;
+        this.executed = meterRegistry.counter("customer.idempotency.requests", "outcome", "executed");
+        this.replayed = meterRegistry.counter("customer.idempotency.requests", "outcome", "replayed");
+        this.coalesced = meterRegistry.counter("customer.idempotency.requests", "outcome", "coalesced");
+        this.inProgress = meterRegistry.counter("customer.idempotency.requests", "outcome", "in_progress");
+        meterRegistry.gauge("customer.idempotency.entries", this, IdempotencyStore::size);
+    }
+
+    /**
+     * Runs {@code action} at most once per key.
+     *
+     * @param clientKey   identifies the caller; keys from different callers never match
+     * @param key         the client supplied idempotency key, or {@code null} to bypass the store
+     * @param payload     the request payload; reusing a key with a different payload is rejected
+     * @param action      produces the response for the first request
+     */
+    public <T> ResponseEntity<T> execute(String clientKey, String key, Object payload,
+                                         Supplier<ResponseEntity<T>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        ScopedKey scopedKey = new ScopedKey(clientKey, key);
+        // Fingerprint up front: the action may mutate the payload (e.g. JPA assigning the generated id)
+        byte[] fingerprint = fingerprint(payload);
+
+        Entry entry;
+        boolean owner = false;
+        synchronized (entries) {
+            evictExpired();
+            entry = entries.get(scopedKey);
+            if (entry == null) {
+                entry = new Entry(fingerprint, clock.getAsLong() + ttlNanos);
+                entries.put(scopedKey, entry);
+                if (entries.size() > maxEntries) {
+                    evictEldest();
+                }
+                owner = true;
+            }
+        }
+
+        if (!MessageDigest.isEqual(entry.fingerprint, fingerprint)) {
+            throw new IllegalArgumentException("Idempotency-Key was already used for a different request: " + key);
+        }
+
+        if (owner) {
+            executed.increment();
+            return run(scopedKey, entry, action);
+        }
+
+        if (entry.response.isDone()) {
+            replayed.increment();
+        } else {
+            coalesced.increment();
+        }
+        ResponseEntity<T> stored = await(key, entry);
+        logger.info("Replaying stored response for Idempotency-Key: {}", key);
+        return replay(stored);
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * SHA-256 of the payload's JSON form. A 32-bit hashCode collides far too easily
+     * (e.g. emails "Aa@x.com" and "BB@x.com"), which would replay another request's response.
+     */
+    private byte[] fingerprint(Object payload) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(payload));
+        } catch (JsonProcessingException | NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Could not fingerprint request payload", ex);
+        }
+    }
+
+    private <T> ResponseEntity<T> run(ScopedKey key, Entry entry, Supplier<ResponseEntity<T>> action) {
+        try {
+            ResponseEntity<T> response = action.get();
+            entry.response.complete(response);
+            return response;
+        } catch (Throwable ex) {
+            // Errors included: an entry that never completes would block every retry until the TTL
+            synchronized (entries) {
+                entries.remove(key, entry);
+            }
+            entry.response.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<T> await(String key, Entry entry) {
+        try {
+            return (ResponseEntity<T>) entry.response.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            inProgress.increment();
+            throw new RequestInProgressException("A request with this Idempotency-Key is still in progress: " + key);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RequestInProgressException("A request with this Idempotency-Key is still in progress: " + key);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            if (ex.getCause() instanceof Error) {
+                throw (Error) ex.getCause();
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private <T> ResponseEntity<T> replay(ResponseEntity<T> stored) {
+        return ResponseEntity.status(stored.getStatusCode())
+                .headers(stored.getHeaders())
+                .header(REPLAYED_HEADER, "true")
+                .body(stored.getBody());
+    }
+
+    private void evictExpired() {
+        long now = clock.getAsLong();
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext() && it.next().expiresAtNanos - now <= 0) {
+            it.remove();
+        }
+    }
+
+    private void evictEldest() {
+        Iterator<Map.Entry<ScopedKey, Entry>> it = entries.entrySet().iterator();
+        it.next();
+        it.remove();
+    }
+
+    private record ScopedKey(String clientKey, String key) {
+    }
+
+    private static final class Entry {
+
+        private final byte[] fingerprint;
+        private final long expiresAtNanos;
+        private final CompletableFuture<ResponseEntity<?>> response = new CompletableFuture<>();
+
+        private Entry(byte[] fingerprint, long expiresAtNanos) {
+            this.fingerprint = fingerprint;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.customerapi.model;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Body of {@code POST /api/customers/bulk-delete}.
+ * Sent as JSON rather than a query string so the full batch fits: 1000 ids would overflow
+ * the server's request-header limit as a URL.
+ */
+public record BulkDeleteRequest(@NotEmpty(message = "ids is mandatory") List<UUID> ids) {
+}
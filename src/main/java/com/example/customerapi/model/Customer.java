@@ -8,6 +8,7 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SoftDelete;
 
 import java.util.UUID;
 
@@ -15,6 +16,9 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+// Deletes set the "deleted" tombstone column instead of removing the row; Hibernate filters tombstones
+// out of every query. CustomerPurgeService physically removes them in the background.
+@SoftDelete
 public class Customer {
 
     @Id
@@ -0,0 +1,18 @@
+package com.example.customerapi.model;
+
+import java.util.UUID;
+
+/**
+ * Read-only projection of a {@link Customer}.
+ * Built directly by JPQL constructor expressions, so reads skip the persistence
+ * context: no managed entity, no dirty-checking snapshot. Serializes to the same
+ * JSON as the entity.
+ */
+public record CustomerView(UUID id, String firstName, String middleName, String lastName,
+                           String emailAddress, String phoneNumber) {
+
+    public static CustomerView from(Customer customer) {
+        return new CustomerView(customer.getId(), customer.getFirstName(), customer.getMiddleName(),
+                customer.getLastName(), customer.getEmailAddress(), customer.getPhoneNumber());
+    }
+}
@@ -1,12 +1,52 @@
 package com.example.customerapi.repository;
 
 import com.example.customerapi.model.Customer;
+import com.example.customerapi.model.CustomerView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 // JPA Repository for Customer entity
 public interface CustomerRepository extends JpaRepository<Customer, UUID> {
     Optional<Customer> findByEmailAddress(String emailAddress);
+
+    // Read-only projections: rows are mapped straight to CustomerView without managed entities
+    @Query("select new com.example.customerapi.model.CustomerView(c.id, c.firstName, c.middleName, c.lastName, "
+            + "c.emailAddress, c.phoneNumber) from Customer c")
+    List<CustomerView> findAllViews();
+
+    @Query("select new com.example.customerapi.model.CustomerView(c.id, c.firstName, c.middleName, c.lastName, "
+            + "c.emailAddress, c.phoneNumber) from Customer c where c.id = :id")
+    Optional<CustomerView> findViewById(@Param("id") UUID id);
+
+    // Single UPDATE: Hibernate turns HQL deletes on a @SoftDelete entity into a tombstone update
+    @Modifying
+    @Transactional
+    @Query("delete from Customer c where c.id = :id")
+    int softDeleteById(@Param("id") UUID id);
+
+    @Modifying
+    @Transactional
+    @Query("delete from Customer c where c.id in :ids")
+    int softDeleteByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Native queries bypass the soft delete filter so tombstones can be physically removed
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM customer WHERE id IN (SELECT id FROM customer WHERE deleted = TRUE FETCH FIRST :batchSize ROWS ONLY)",
+            nativeQuery = true)
+    int purgeDeleted(@Param("batchSize") int batchSize);
+
+    // A tombstone still holds its email, so it is removed before the address is reused
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM customer WHERE email_address = :emailAddress AND deleted = TRUE", nativeQuery = true)
+    int purgeDeletedByEmailAddress(@Param("emailAddress") String emailAddress);
 }
@@ -0,0 +1,51 @@
+package com.example.customerapi.service;
+
+import com.example.customerapi.repository.CustomerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+
+/**
+ * Background job that physically removes soft-deleted customers.
+ * Rows are deleted in bounded batches, each in its own transaction, so a large
+ * backlog of tombstones never turns into one long-running, lock-heavy delete.
+ */
+@Service
+public class CustomerPurgeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerPurgeService.class);
+
+    @Autowired
+    private CustomerRepository repository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PurgeProperties properties;
+
+    @Scheduled(fixedDelayString = "${customer.purge.interval:PT1M}", initialDelayString = "${customer.purge.interval:PT1M}")
+    public int purgeDeletedCustomers() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int total = 0;
+        int batches = 0;
+        int batchSize = properties.getBatchSize();
+        int purged;
+        do {
+            purged = repository.purgeDeleted(batchSize);
+            total += purged;
+            batches++;
+        } while (purged == batchSize && batches < properties.getMaxBatchesPerRun());
+        sample.stop(meterRegistry.timer("customer.purge.duration"));
+        meterRegistry.counter("customer.purge.rows").increment(total);
+        if (total > 0) {
+            logger.info("Purged {} deleted customers in {} batches", total, batches);
+        }
+        return total;
+    }
+}
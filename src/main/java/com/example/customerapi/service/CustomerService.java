@@ -1,22 +1,27 @@
 package com.example.customerapi.service;
 
+import com.example.customerapi.cache.CustomerCache;
 import com.example.customerapi.exception.CustomerNotFoundException;
 import com.example.customerapi.model.Customer;
+import com.example.customerapi.model.CustomerView;
 import com.example.customerapi.repository.CustomerRepository;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 
 /**
  * Service layer for managing customers.
  * Includes metrics for monitoring customer creation requests.
+ * Reads return {@link CustomerView} projections and single-customer lookups are cached.
  */
 @Service
 @Validated
@@ -24,50 +29,102 @@ public class CustomerService {
 
     private static final Logger logger = LoggerFactory.getLogger(CustomerService.class);
 
+    static final int MAX_BULK_DELETE = 1000;
+
     @Autowired
     private CustomerRepository repository;
 
     @Autowired
     private MeterRegistry meterRegistry;
 
+    @Autowired
+    private CustomerCache cache;
+
     public Customer createCustomer(Customer customer) {
         meterRegistry.counter("customer.creation.requests").increment();
         if (repository.findByEmailAddress(customer.getEmailAddress()).isPresent()) {
             throw new IllegalArgumentException("Email address must be unique: " + customer.getEmailAddress());
         }
         logger.info("Saving customer to the database: {}", customer);
-        return repository.save(customer);
+        return saveReclaimingEmail(customer);
     }
 
-    public List<Customer> getAllCustomers() {
+    public List<CustomerView> getAllCustomers() {
         logger.info("Retrieving all customers from the database");
-        return repository.findAll();
+        return repository.findAllViews();
     }
 
-    public Customer getCustomerById(UUID id) {
+    public CustomerView getCustomerById(UUID id) {
         logger.info("Retrieving customer with ID: {}", id);
-        return repository.findById(id)
+        Optional<CustomerView> cached = cache.get(id);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        long generation = cache.beginLoad(id);
+        CustomerView customer = repository.findViewById(id)
                 .orElseThrow(() -> {
                     logger.error("Customer with ID {} not found", id);
                     throw new CustomerNotFoundException("Customer not found with ID: " + id);
                 });
+        cache.put(customer, generation);
+        return customer;
     }
 
     public Customer updateCustomer(UUID id, Customer customerDetails) {
         logger.info("Updating customer with ID: {}", id);
-        Customer customer = getCustomerById(id);
+        Customer customer = repository.findById(id)
+                .orElseThrow(() -> {
+                    logger.error("Customer with ID {} not found", id);
+                    throw new CustomerNotFoundException("Customer not found with ID: " + id);
+                });
         customer.setFirstName(customerDetails.getFirstName());
         customer.setMiddleName(customerDetails.getMiddleName());
         customer.setLastName(customerDetails.getLastName());
         customer.setEmailAddress(customerDetails.getEmailAddress());
         customer.setPhoneNumber(customerDetails.getPhoneNumber());
-        return repository.save(customer);
+        Customer saved = saveReclaimingEmail(customer);
+        cache.invalidate(id);
+        return saved;
+    }
+
+    /**
+     * Saves the customer. A soft-deleted customer keeps its unique email address until the purge
+     * job runs, so on a constraint violation any tombstone holding the address is removed and the
+     * save retried once. The common path costs no extra statement.
+     */
+    private Customer saveReclaimingEmail(Customer customer) {
+        UUID originalId = customer.getId();
+        try {
+            return repository.save(customer);
+        } catch (DataIntegrityViolationException ex) {
+            if (repository.purgeDeletedByEmailAddress(customer.getEmailAddress()) == 0) {
+                throw ex;
+            }
+            logger.info("Reclaimed email address from a deleted customer: {}", customer.getEmailAddress());
+            // The failed insert already assigned a generated ID that was never stored
+            customer.setId(originalId);
+            return repository.save(customer);
+        }
     }
 
     public void deleteCustomer(UUID id) {
         logger.info("Deleting customer with ID: {}", id);
-        Customer customer = getCustomerById(id);
-        repository.delete(customer);
+        if (repository.softDeleteById(id) == 0) {
+            logger.error("Customer with ID {} not found", id);
+            throw new CustomerNotFoundException("Customer not found with ID: " + id);
+        }
+        cache.invalidate(id);
         logger.info("Customer with ID {} deleted", id);
     }
+
+    public int deleteCustomers(List<UUID> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_BULK_DELETE) {
+            throw new IllegalArgumentException("Bulk delete requires between 1 and " + MAX_BULK_DELETE + " IDs");
+        }
+        logger.info("Deleting {} customers", ids.size());
+        int deleted = repository.softDeleteByIdIn(ids);
+        ids.forEach(cache::invalidate);
+        logger.info("{} of {} customers deleted", deleted, ids.size());
+        return deleted;
+    }
 }
@@ -0,0 +1,21 @@
+package com.example.customerapi.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the background tombstone purge, bound from {@code customer.purge.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "customer.purge")
+public class PurgeProperties {
+
+    // Read by the @Scheduled trigger through the same property key
+    private Duration interval = Duration.ofMinutes(1);
+
+    private int batchSize = 500;
+
+    private int maxBatchesPerRun = 20;
+}
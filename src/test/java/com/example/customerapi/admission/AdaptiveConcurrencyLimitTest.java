@@ -0,0 +1,122 @@
+package com.example.customerapi.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static AdaptiveConcurrencyLimit newLimit(int initialLimit, int minLimit, int maxLimit) {
+        return new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, 2.0, 0.2, 10, 30);
+    }
+
+    // Fills every free slot, then completes them all with the same latency
+    private static void runAtCapacity(AdaptiveConcurrencyLimit limit, String endpoint, long rttNanos) {
+        int acquired = 0;
+        while (limit.tryAcquire(1.0)) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limit.release(endpoint, rttNanos);
+        }
+    }
+
+    @Test
+    void testRejectsWhenLimitReached() {
+        AdaptiveConcurrencyLimit limit = newLimit(2, 1, 10);
+
+        assertTrue(limit.tryAcquire(1.0));
+        assertTrue(limit.tryAcquire(1.0));
+        assertFalse(limit.tryAcquire(1.0));
+        assertEquals(2, limit.getInFlight());
+    }
+
+    @Test
+    void testLowerShareIsShedFirst() {
+        AdaptiveConcurrencyLimit limit = newLimit(10, 1, 10);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limit.tryAcquire(0.5));
+        }
+
+        assertFalse(limit.tryAcquire(0.5));
+        assertTrue(limit.tryAcquire(1.0));
+    }
+
+    @Test
+    void testLimitGrowsWhileLatencyIsStable() {
+        AdaptiveConcurrencyLimit limit = newLimit(10, 1, 100);
+
+        for (int i = 0; i < 50; i++) {
+            runAtCapacity(limit, "GET", 1_000_000L);
+        }
+
+        assertTrue(limit.getLimit() > 10);
+        assertEquals(0, limit.getInFlight());
+    }
+
+    @Test
+    void testLimitShrinksWhenLatencyRises() {
+        AdaptiveConcurrencyLimit limit = newLimit(50, 5, 100);
+        for (int i = 0; i < 5; i++) {
+            runAtCapacity(limit, "GET", 1_000_000L);
+        }
+        int before = limit.getLimit();
+
+        // Two rounds of queueing, before the long-window baseline has absorbed the new latency
+        for (int i = 0; i < 2; i++) {
+            runAtCapacity(limit, "GET", 20_000_000L);
+        }
+
+        assertTrue(limit.getLimit() < before);
+        assertTrue(limit.getLimit() >= 5);
+    }
+
+    @Test
+    void testLowConcurrencyTrafficDoesNotMoveLimit() {
+        AdaptiveConcurrencyLimit limit = newLimit(100, 10, 400);
+        Random random = new Random(42);
+
+        // Sequential traffic with noisy latency: cache hits, fast 404s and slow DB misses on the same endpoint
+        for (int i = 0; i < 5000; i++) {
+            assertTrue(limit.tryAcquire(1.0));
+            long rttNanos = random.nextInt(4) == 0 ? 50_000L : 100_000L + random.nextInt(50_000_000);
+            limit.release("GET /api/customers/{id}", rttNanos);
+        }
+
+        assertEquals(100, limit.getLimit());
+    }
+
+    @Test
+    void testMixedLatencyAtCapacityIsNotTreatedAsCongestion() {
+        AdaptiveConcurrencyLimit limit = newLimit(50, 10, 400);
+        Random random = new Random(7);
+
+        // A steady mix of fast cache hits and slower DB reads; only the window average is compared
+        for (int round = 0; round < 50; round++) {
+            int acquired = 0;
+            while (limit.tryAcquire(1.0)) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limit.release("GET /api/customers/{id}", random.nextBoolean() ? 50_000L : 5_000_000L);
+            }
+        }
+
+        assertTrue(limit.getLimit() > 50);
+    }
+
+    @Test
+    void testSlowEndpointIsJudgedAgainstItsOwnBaseline() {
+        AdaptiveConcurrencyLimit limit = newLimit(20, 5, 200);
+
+        // Healthy server: a 1ms endpoint and a 20ms endpoint, each at its own steady latency
+        for (int i = 0; i < 100; i++) {
+            runAtCapacity(limit, "GET /api/customers/{id}", 1_000_000L);
+            runAtCapacity(limit, "POST /api/customers", 20_000_000L);
+        }
+
+        assertEquals(200, limit.getLimit());
+    }
+}
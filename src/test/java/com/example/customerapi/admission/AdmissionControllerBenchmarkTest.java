@@ -0,0 +1,106 @@
+package com.example.customerapi.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Rough benchmark of the limiter's own cost per request (admit + release),
+ * uncontended and with many threads admitting and releasing at once.
+ * Timing-sensitive, so it only runs with the loadtest profile (mvn test -Ploadtest).
+ * The bounds are deliberately loose so they only catch gross regressions;
+ * the logged numbers are what to compare across commits.
+ */
+@Tag("loadtest")
+class AdmissionControllerBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionControllerBenchmarkTest.class);
+
+    private static final String[] ENDPOINTS = {"GET /api/customers/{id}", "GET /api/customers", "PUT /api/customers/{id}"};
+
+    private static AdmissionController newController() {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setReadBurst(Double.MAX_VALUE / 2);
+        properties.setWriteBurst(Double.MAX_VALUE / 2);
+        properties.setClientBurst(Double.MAX_VALUE / 2);
+        properties.setMaxLimit(10_000);
+        properties.setInitialLimit(10_000);
+        return new AdmissionController(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testAdmissionOverhead() {
+        AdmissionController controller = newController();
+        int warmup = 20_000;
+        int iterations = 200_000;
+        for (int i = 0; i < warmup; i++) {
+            controller.admit(ENDPOINTS[0], "client", Priority.READ).release();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            controller.admit(ENDPOINTS[0], "client", Priority.READ).release();
+        }
+        long nanosPerOp = (System.nanoTime() - start) / iterations;
+
+        logger.info("Admission overhead, 1 thread: {} ns/op", nanosPerOp);
+        assertTrue(nanosPerOp < 50_000, "Admission overhead too high: " + nanosPerOp + " ns/op");
+    }
+
+    @Test
+    void testContendedAdmissionOverhead() throws Exception {
+        AdmissionController controller = newController();
+        int threads = Integer.getInteger("loadtest.benchmark.threads", 16);
+        int iterationsPerThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            // Warm up on the same pool so the JIT sees the contended path
+            runConcurrently(executor, controller, threads, 5_000);
+            long start = System.nanoTime();
+            runConcurrently(executor, controller, threads, iterationsPerThread);
+            long elapsed = System.nanoTime() - start;
+
+            long totalOps = (long) threads * iterationsPerThread;
+            long nanosPerOp = elapsed / totalOps;
+            long opsPerSecond = totalOps * 1_000_000_000L / elapsed;
+            logger.info("Admission overhead, {} threads on {} CPUs: {} ns/op wall clock, {} ops/s",
+                    threads, Runtime.getRuntime().availableProcessors(), nanosPerOp, opsPerSecond);
+            assertTrue(nanosPerOp < 50_000, "Contended admission overhead too high: " + nanosPerOp + " ns/op");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void runConcurrently(ExecutorService executor, AdmissionController controller,
+                                        int threads, int iterationsPerThread) throws Exception {
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            String client = "client-" + t;
+            String endpoint = ENDPOINTS[t % ENDPOINTS.length];
+            Priority priority = endpoint.startsWith("GET") ? Priority.READ : Priority.WRITE;
+            futures.add(executor.submit(() -> {
+                startGate.await();
+                for (int i = 0; i < iterationsPerThread; i++) {
+                    controller.admit(endpoint, client, priority).release();
+                }
+                return null;
+            }));
+        }
+        startGate.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.customerapi.admission;
+
+import com.example.customerapi.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionControllerTest {
+
+    private AdmissionProperties properties;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AdmissionProperties();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testAdmitAndRelease() {
+        AdmissionController controller = new AdmissionController(properties, meterRegistry);
+
+        AdmissionController.Permit permit = controller.admit("GET /api/customers/{id}", "client", Priority.READ);
+        assertEquals(1, controller.getConcurrencyLimit().getInFlight());
+        permit.release();
+
+        assertEquals(0, controller.getConcurrencyLimit().getInFlight());
+        assertEquals(1.0, meterRegistry.get("customer.admission.decisions").tag("outcome", "admitted").counter().count());
+        assertNotNull(meterRegistry.find("customer.admission.concurrency.limit").gauge());
+    }
+
+    @Test
+    void testEndpointRateLimit() {
+        properties.setWriteBurst(1);
+        properties.setWriteRatePerSecond(0.5);
+        AdmissionController controller = new AdmissionController(properties, meterRegistry);
+        controller.admit("POST /api/customers", "client", Priority.WRITE).release();
+
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> controller.admit("POST /api/customers", "client", Priority.WRITE));
+
+        assertEquals(2, exception.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("customer.admission.decisions").tag("outcome", "endpoint_rate").counter().count());
+    }
+
+    @Test
+    void testClientRateLimitIsPerClient() {
+        properties.setClientBurst(1);
+        properties.setClientRatePerSecond(1);
+        AdmissionController controller = new AdmissionController(properties, meterRegistry);
+        controller.admit("GET /api/customers", "a", Priority.READ).release();
+
+        assertThrows(TooManyRequestsException.class, () -> controller.admit("GET /api/customers", "a", Priority.READ));
+        assertDoesNotThrow(() -> controller.admit("GET /api/customers", "b", Priority.READ).release());
+    }
+
+    @Test
+    void testClientOverLimitCannotStarveOtherClients() {
+        properties.setClientBurst(5);
+        properties.setClientRatePerSecond(0.001);
+        properties.setReadBurst(10);
+        properties.setReadRatePerSecond(0.001);
+        AdmissionController controller = new AdmissionController(properties, meterRegistry);
+
+        // A noisy client hammers the endpoint far beyond its own limit
+        for (int i = 0; i < 100; i++) {
+            try {
+                controller.admit("GET /api/customers/{id}", "noisy", Priority.READ).release();
+            } catch (TooManyRequestsException ignored) {
+                // expected once its own bucket is empty
+            }
+        }
+
+        // Only the noisy client's 5 admitted requests spent endpoint tokens, so 5 remain for others
+        for (int i = 0; i < 5; i++) {
+            assertDoesNotThrow(() -> controller.admit("GET /api/customers/{id}", "quiet", Priority.READ).release());
+        }
+        assertEquals(95.0, meterRegistry.get("customer.admission.decisions").tag("outcome", "client_rate").counter().count());
+        assertNull(meterRegistry.find("customer.admission.decisions").tag("outcome", "endpoint_rate").counter());
+    }
+
+    @Test
+    void testConcurrencyRejectionRefundsRateTokens() {
+        properties.setInitialLimit(1);
+        properties.setMinLimit(1);
+        properties.setClientBurst(2);
+        properties.setClientRatePerSecond(0.001);
+        AdmissionController controller = new AdmissionController(properties, meterRegistry);
+        AdmissionController.Permit held = controller.admit("GET /api/customers", "client", Priority.READ);
+
+        assertThrows(TooManyRequestsException.class, () -> controller.admit("GET /api/customers", "client", Priority.READ));
+        held.release();
+
+        // The rejected request's client token was refunded, so this one still fits in the burst of 2
+        assertDoesNotThrow(() -> controller.admit("GET /api/customers", "client", Priority.READ).release());
+    }
+
+    @Test
+    void testWritesAreShedBeforeReads() {
+        properties.setInitialLimit(10);
+        properties.setMinLimit(1);
+        properties.setWriteShare(0.5);
+        AdmissionController controller = new AdmissionController(properties, meterRegistry);
+        for (int i = 0; i < 5; i++) {
+            controller.admit("POST /api/customers", "client", Priority.WRITE);
+        }
+
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> controller.admit("POST /api/customers", "client", Priority.WRITE));
+        assertEquals(1, exception.getRetryAfterSeconds());
+        assertDoesNotThrow(() -> controller.admit("GET /api/customers/{id}", "client", Priority.READ));
+        assertEquals(1.0, meterRegistry.get("customer.admission.decisions").tag("outcome", "concurrency").counter().count());
+    }
+}
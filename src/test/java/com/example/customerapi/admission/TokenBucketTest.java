@@ -0,0 +1,68 @@
+package com.example.customerapi.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void testAcquireUntilEmpty() {
+        TokenBucket bucket = new TokenBucket(2, 1, clock::get);
+
+        assertEquals(0, bucket.tryAcquire());
+        assertEquals(0, bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire() > 0);
+    }
+
+    @Test
+    void testWaitReflectsRefillRate() {
+        TokenBucket bucket = new TokenBucket(1, 2, clock::get);
+        bucket.tryAcquire();
+
+        long wait = bucket.tryAcquire();
+
+        assertEquals(500_000_000L, wait);
+    }
+
+    @Test
+    void testRefillOverTime() {
+        TokenBucket bucket = new TokenBucket(1, 10, clock::get);
+        bucket.tryAcquire();
+        assertFalse(bucket.isFull());
+
+        clock.addAndGet(100_000_000L);
+
+        assertTrue(bucket.isFull());
+        assertEquals(0, bucket.tryAcquire());
+    }
+
+    @Test
+    void testRefundReturnsToken() {
+        TokenBucket bucket = new TokenBucket(1, 1, clock::get);
+        bucket.tryAcquire();
+
+        bucket.refund();
+
+        assertEquals(0, bucket.tryAcquire());
+    }
+
+    @Test
+    void testRefundDoesNotExceedCapacity() {
+        TokenBucket bucket = new TokenBucket(1, 1, clock::get);
+
+        bucket.refund();
+
+        assertEquals(0, bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire() > 0);
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1));
+    }
+}
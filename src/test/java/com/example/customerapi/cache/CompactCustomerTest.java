@@ -0,0 +1,39 @@
+package com.example.customerapi.cache;
+
+import com.example.customerapi.model.CustomerView;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactCustomerTest {
+
+    @Test
+    void testRoundTripPreservesFields() {
+        CustomerView view = new CustomerView(UUID.randomUUID(), "José", null, "Müller", "jose@example.com", "+1234567890");
+
+        CustomerView restored = CompactCustomer.from(view, new NameInterner(10)).toView();
+
+        assertEquals(view, restored);
+    }
+
+    @Test
+    void testCommonNamesAreShared() {
+        NameInterner names = new NameInterner(10);
+
+        assertSame(names.intern("John"), names.intern(new String("John")));
+        assertEquals(1, names.size());
+    }
+
+    @Test
+    void testInternerStopsGrowingWhenFull() {
+        NameInterner names = new NameInterner(1);
+        names.intern("John");
+
+        byte[] unshared = names.intern("Jane");
+
+        assertNotSame(unshared, names.intern("Jane"));
+        assertEquals(1, names.size());
+    }
+}
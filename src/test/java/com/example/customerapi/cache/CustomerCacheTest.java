@@ -0,0 +1,132 @@
+package com.example.customerapi.cache;
+
+import com.example.customerapi.model.CustomerView;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private MeterRegistry meterRegistry;
+    private CustomerCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new CustomerCache(2, Duration.ofSeconds(10), new NameInterner(100), meterRegistry, clock::get);
+    }
+
+    private static CustomerView customer(String firstName) {
+        return new CustomerView(UUID.randomUUID(), firstName, null, "Doe", firstName.toLowerCase() + "@example.com", "+1234567890");
+    }
+
+    private void load(CustomerView customer) {
+        cache.put(customer, cache.beginLoad(customer.id()));
+    }
+
+    @Test
+    void testRoundTrip() {
+        CustomerView customer = new CustomerView(UUID.randomUUID(), "Zoë", "M", "Doe", "zoe@example.com", "+1234567890");
+        load(customer);
+
+        assertEquals(customer, cache.get(customer.id()).orElseThrow());
+        assertEquals(1.0, meterRegistry.get("customer.cache.requests").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void testMiss() {
+        assertTrue(cache.get(UUID.randomUUID()).isEmpty());
+        assertEquals(1.0, meterRegistry.get("customer.cache.requests").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void testInvalidate() {
+        CustomerView customer = customer("John");
+        load(customer);
+
+        cache.invalidate(customer.id());
+
+        assertTrue(cache.get(customer.id()).isEmpty());
+    }
+
+    @Test
+    void testPutAfterInvalidationIsDropped() {
+        CustomerView stale = customer("John");
+        long generation = cache.beginLoad(stale.id());
+
+        // An update or delete lands between the database read and the cache fill
+        cache.invalidate(stale.id());
+        cache.put(stale, generation);
+
+        assertTrue(cache.get(stale.id()).isEmpty());
+        load(stale);
+        assertTrue(cache.get(stale.id()).isPresent());
+    }
+
+    @Test
+    void testEntriesExpireAfterTtl() {
+        CustomerView customer = customer("John");
+        load(customer);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(11));
+
+        assertTrue(cache.get(customer.id()).isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testLeastRecentlyUsedIsEvicted() {
+        CustomerView first = customer("John");
+        CustomerView second = customer("Jane");
+        CustomerView third = customer("Jim");
+        load(first);
+        clock.incrementAndGet();
+        load(second);
+        clock.incrementAndGet();
+        cache.get(first.id());
+        clock.incrementAndGet();
+
+        load(third);
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.get(first.id()).isPresent());
+        assertTrue(cache.get(second.id()).isEmpty());
+        assertTrue(cache.get(third.id()).isPresent());
+    }
+
+    @Test
+    void testEvictionSamplesTheWholeCache() {
+        cache = new CustomerCache(200, Duration.ofMinutes(10), new NameInterner(100), meterRegistry, clock::get);
+        List<CustomerView> cold = new ArrayList<>();
+        List<CustomerView> hot = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            cold.add(customer("Cold" + i));
+            hot.add(customer("Hot" + i));
+            load(cold.get(i));
+            load(hot.get(i));
+        }
+        clock.addAndGet(1000);
+        hot.forEach(customer -> cache.get(customer.id()));
+        clock.addAndGet(1000);
+
+        // 100 new customers push out 100 entries; the sample should find the cold ones wherever they sit
+        for (int i = 0; i < 100; i++) {
+            load(customer("New" + i));
+        }
+
+        long hotSurvivors = hot.stream().filter(customer -> cache.get(customer.id()).isPresent()).count();
+        assertEquals(200, cache.size());
+        assertTrue(hotSurvivors >= 75, "Only " + hotSurvivors + " of 100 recently used entries survived");
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.customerapi.controller;
 
+import com.example.customerapi.admission.ClientKeyResolver;
 import com.example.customerapi.exception.CustomerNotFoundException;
+import com.example.customerapi.idempotency.IdempotencyStore;
+import com.example.customerapi.model.BulkDeleteRequest;
 import com.example.customerapi.model.Customer;
+import com.example.customerapi.model.CustomerView;
 import com.example.customerapi.service.CustomerService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,10 +13,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -25,9 +32,22 @@ class CustomerControllerTest {
     @Mock
     private CustomerService service;
 
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
+    @Mock
+    private ClientKeyResolver clientKeyResolver;
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+
+        // Pass-through store: run the supplied action directly
+        when(clientKeyResolver.resolve(request)).thenReturn("client-1");
+        when(idempotencyStore.execute(any(), any(), any(), any())).thenAnswer(invocation ->
+                ((Supplier<?>) invocation.getArgument(3)).get());
     }
 
     @Test
@@ -35,21 +55,31 @@ class CustomerControllerTest {
         Customer customer = new Customer(UUID.randomUUID(), "John", "M", "Doe", "john.doe@example.com", "+1234567890");
         when(service.createCustomer(any(Customer.class))).thenReturn(customer);
 
-        ResponseEntity<Customer> response = controller.createCustomer(customer);
+        ResponseEntity<Customer> response = controller.createCustomer(null, customer, request);
 
         assertNotNull(response);
         assertEquals(customer, response.getBody());
         verify(service, times(1)).createCustomer(customer);
     }
 
+    @Test
+    void testCreateCustomerWithIdempotencyKey() {
+        Customer customer = new Customer(UUID.randomUUID(), "John", "M", "Doe", "john.doe@example.com", "+1234567890");
+        when(service.createCustomer(any(Customer.class))).thenReturn(customer);
+
+        controller.createCustomer("key-1", customer, request);
+
+        verify(idempotencyStore, times(1)).execute(eq("client-1"), eq("key-1"), eq(customer), any());
+    }
+
     @Test
     void testGetAllCustomers() {
-        Customer customer1 = new Customer(UUID.randomUUID(), "John", "M", "Doe", "john.doe@example.com", "+1234567890");
-        Customer customer2 = new Customer(UUID.randomUUID(), "Jane", null, "Doe", "jane.doe@example.com", "+0987654321");
+        CustomerView customer1 = new CustomerView(UUID.randomUUID(), "John", "M", "Doe", "john.doe@example.com", "+1234567890");
+        CustomerView customer2 = new CustomerView(UUID.randomUUID(), "Jane", null, "Doe", "jane.doe@example.com", "+0987654321");
 
         when(service.getAllCustomers()).thenReturn(Arrays.asList(customer1, customer2));
 
-        ResponseEntity<List<Customer>> response = controller.getAllCustomers();
+        ResponseEntity<List<CustomerView>> response = controller.getAllCustomers();
 
         assertNotNull(response);
         assertEquals(2, response.getBody().size());
@@ -59,10 +89,10 @@ class CustomerControllerTest {
     @Test
     void testGetCustomerById() {
         UUID customerId = UUID.randomUUID();
-        Customer customer = new Customer(customerId, "John", "M", "Doe", "john.doe@example.com", "+1234567890");
+        CustomerView customer = new CustomerView(customerId, "John", "M", "Doe", "john.doe@example.com", "+1234567890");
         when(service.getCustomerById(customerId)).thenReturn(customer);
 
-        ResponseEntity<Customer> response = controller.getCustomerById(customerId);
+        ResponseEntity<CustomerView> response = controller.getCustomerById(customerId);
 
         assertNotNull(response);
         assertEquals(customer, response.getBody());
@@ -115,4 +145,16 @@ class CustomerControllerTest {
         assertEquals("Customer not found", exception.getMessage());
         verify(service, times(1)).deleteCustomer(customerId);
     }
+
+    @Test
+    void testDeleteCustomers() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(service.deleteCustomers(ids)).thenReturn(2);
+
+        ResponseEntity<Map<String, Integer>> response = controller.deleteCustomers(new BulkDeleteRequest(ids));
+
+        assertNotNull(response);
+        assertEquals(2, response.getBody().get("deleted"));
+        verify(service, times(1)).deleteCustomers(ids);
+    }
 }
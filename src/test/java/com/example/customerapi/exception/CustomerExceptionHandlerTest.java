@@ -4,6 +4,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -50,6 +52,47 @@ class CustomerExceptionHandlerTest {
         assertEquals(errorMessage, response.getBody());
     }
 
+    @Test
+    void testHandleRequestInProgressException() {
+        // Arrange
+        RequestInProgressException exception = new RequestInProgressException("Request in progress");
+
+        // Act
+        ResponseEntity<String> response = exceptionHandler.handleRequestInProgressException(exception);
+
+        // Assert
+        assertEquals(409, response.getStatusCode().value());
+        assertEquals("Request in progress", response.getBody());
+    }
+
+    @Test
+    void testHandleTooManyRequestsException() {
+        // Arrange
+        TooManyRequestsException exception = new TooManyRequestsException("Too many requests, retry after 3s", 3);
+
+        // Act
+        ResponseEntity<String> response = exceptionHandler.handleTooManyRequestsException(exception);
+
+        // Assert
+        assertEquals(429, response.getStatusCode().value());
+        assertEquals("3", response.getHeaders().getFirst("Retry-After"));
+        assertEquals("Too many requests, retry after 3s", response.getBody());
+    }
+
+    @Test
+    void testHandleHttpMessageNotReadableException() {
+        // Arrange
+        HttpMessageNotReadableException exception = new HttpMessageNotReadableException("Required request body is missing",
+                new MockHttpInputMessage(new byte[0]));
+
+        // Act
+        ResponseEntity<String> response = exceptionHandler.handleHttpMessageNotReadableException(exception);
+
+        // Assert
+        assertEquals(400, response.getStatusCode().value());
+        assertEquals("Malformed or missing request body", response.getBody());
+    }
+
     @Test
     void testHandleValidationExceptions() {
         // Arrange
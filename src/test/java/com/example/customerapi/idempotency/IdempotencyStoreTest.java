@@ -0,0 +1,217 @@
+package com.example.customerapi.idempotency;
+
+import com.example.customerapi.exception.RequestInProgressException;
+import com.example.customerapi.model.Customer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyStoreTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger executions = new AtomicInteger();
+    private IdempotencyProperties properties;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IdempotencyProperties();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private IdempotencyStore newStore() {
+        return new IdempotencyStore(properties, meterRegistry, new ObjectMapper(), clock::get);
+    }
+
+    private ResponseEntity<String> create() {
+        return new ResponseEntity<>("created-" + executions.incrementAndGet(), HttpStatus.CREATED);
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("customer.idempotency.requests").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    void testReplaysStoredResponse() {
+        IdempotencyStore store = newStore();
+
+        ResponseEntity<String> first = store.execute("client", "key", "payload", this::create);
+        ResponseEntity<String> second = store.execute("client", "key", "payload", this::create);
+
+        assertEquals(1, executions.get());
+        assertEquals(HttpStatus.CREATED, second.getStatusCode());
+        assertEquals(first.getBody(), second.getBody());
+        assertEquals("true", second.getHeaders().getFirst(IdempotencyStore.REPLAYED_HEADER));
+        assertEquals(1.0, count("executed"));
+        assertEquals(1.0, count("replayed"));
+    }
+
+    @Test
+    void testNoKeyBypassesStore() {
+        IdempotencyStore store = newStore();
+
+        store.execute("client", null, "payload", this::create);
+        store.execute("client", null, "payload", this::create);
+
+        assertEquals(2, executions.get());
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void testKeyReuseWithDifferentPayloadIsRejected() {
+        IdempotencyStore store = newStore();
+        store.execute("client", "key", "payload", this::create);
+
+        assertThrows(IllegalArgumentException.class, () -> store.execute("client", "key", "other", this::create));
+    }
+
+    @Test
+    void testKeysAreScopedPerClient() {
+        IdempotencyStore store = newStore();
+        store.execute("client", "1", "payload", this::create);
+
+        ResponseEntity<String> other = store.execute("other-client", "1", "other payload", this::create);
+
+        assertEquals("created-2", other.getBody());
+        assertNull(other.getHeaders().getFirst(IdempotencyStore.REPLAYED_HEADER));
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void testKeyReuseWithHashCollidingPayloadIsRejected() {
+        IdempotencyStore store = newStore();
+        Customer first = new Customer(null, "Ann", null, "Lee", "Aa@x.com", "+1234567890");
+        Customer second = new Customer(null, "Ann", null, "Lee", "BB@x.com", "+1234567890");
+        assertEquals(first.hashCode(), second.hashCode());
+        store.execute("client", "key", first, this::create);
+
+        assertThrows(IllegalArgumentException.class, () -> store.execute("client", "key", second, this::create));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void testFailureIsNotStored() {
+        IdempotencyStore store = newStore();
+
+        assertThrows(IllegalStateException.class, () -> store.execute("client", "key", "payload", () -> {
+            throw new IllegalStateException("boom");
+        }));
+        ResponseEntity<String> retry = store.execute("client", "key", "payload", this::create);
+
+        assertEquals("created-1", retry.getBody());
+    }
+
+    @Test
+    void testErrorIsNotStored() {
+        IdempotencyStore store = newStore();
+
+        assertThrows(StackOverflowError.class, () -> store.execute("client", "key", "payload", () -> {
+            throw new StackOverflowError();
+        }));
+        ResponseEntity<String> retry = store.execute("client", "key", "payload", this::create);
+
+        assertEquals("created-1", retry.getBody());
+    }
+
+    @Test
+    void testDuplicateGetsConflictWhenOriginalStalls() throws Exception {
+        properties.setWaitTimeout(Duration.ofMillis(50));
+        IdempotencyStore store = newStore();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<ResponseEntity<String>> first = executor.submit(() -> store.execute("client", "key", "payload", () -> {
+                started.countDown();
+                await(release);
+                return create();
+            }));
+            started.await();
+
+            assertThrows(RequestInProgressException.class, () -> store.execute("client", "key", "payload", this::create));
+            assertEquals(1.0, count("in_progress"));
+
+            release.countDown();
+            assertEquals("created-1", first.get(5, TimeUnit.SECONDS).getBody());
+            assertEquals(1, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testEntriesExpireAfterTtl() {
+        properties.setTtl(Duration.ofSeconds(10));
+        IdempotencyStore store = newStore();
+        store.execute("client", "key", "payload", this::create);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(11));
+        store.execute("client", "key", "payload", this::create);
+
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void testStoreIsBounded() {
+        properties.setMaxEntries(2);
+        IdempotencyStore store = newStore();
+
+        store.execute("client", "a", "payload", this::create);
+        store.execute("client", "b", "payload", this::create);
+        store.execute("client", "c", "payload", this::create);
+
+        assertEquals(2, store.size());
+        store.execute("client", "a", "payload", this::create);
+        assertEquals(4, executions.get());
+    }
+
+    @Test
+    void testConcurrentDuplicatesAreCoalesced() throws Exception {
+        IdempotencyStore store = newStore();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ResponseEntity<String>> first = executor.submit(() -> store.execute("client", "key", "payload", () -> {
+                started.countDown();
+                await(release);
+                return create();
+            }));
+            started.await();
+            Future<ResponseEntity<String>> duplicate = executor.submit(() -> store.execute("client", "key", "payload", this::create));
+            while (count("coalesced") == 0) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            assertEquals("created-1", first.get(5, TimeUnit.SECONDS).getBody());
+            assertEquals("created-1", duplicate.get(5, TimeUnit.SECONDS).getBody());
+            assertEquals(1, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
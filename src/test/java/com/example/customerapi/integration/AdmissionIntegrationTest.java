@@ -0,0 +1,88 @@
+package com.example.customerapi.integration;
+
+import com.example.customerapi.CustomerApiApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test for admission control on the Customer API.
+ *
+ * Starts the application with a tiny per-client rate limit so the full HTTP path
+ * (AdmissionInterceptor -> AdmissionController -> CustomerExceptionHandler) can be
+ * exercised: rejected requests must get 429 with Retry-After, and every admitted
+ * request must release its concurrency permit once it completes.
+ */
+@SpringBootTest(
+        classes = CustomerApiApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "customer.admission.client-burst=2",
+                "customer.admission.client-rate-per-second=0.01"
+        }
+)
+public class AdmissionIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ResponseEntity<String> getAllCustomers(String clientId) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Client-Id", clientId);
+        return restTemplate.exchange("http://localhost:" + port + "/api/customers", HttpMethod.GET,
+                new HttpEntity<>(headers), String.class);
+    }
+
+    /**
+     * Validates that a client over its limit gets 429 with Retry-After while other clients are still served.
+     */
+    @Test
+    public void testClientOverLimitGetsTooManyRequests() {
+        // Act: Use up the client's burst of 2, then send one more
+        assertEquals(HttpStatus.OK, getAllCustomers("greedy").getStatusCode());
+        assertEquals(HttpStatus.OK, getAllCustomers("greedy").getStatusCode());
+        ResponseEntity<String> rejected = getAllCustomers("greedy");
+
+        // Assert: The extra request is shed with a Retry-After hint; another client is unaffected
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, rejected.getStatusCode());
+        assertNotNull(rejected.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertTrue(Long.parseLong(rejected.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)) >= 1);
+        assertEquals(HttpStatus.OK, getAllCustomers("polite").getStatusCode());
+    }
+
+    /**
+     * Validates that permits are released in afterCompletion, including for requests that fail in the controller.
+     */
+    @Test
+    public void testPermitsAreReleasedAfterCompletion() throws InterruptedException {
+        // Act: One successful request and one that ends in a 404 from the exception handler
+        assertEquals(HttpStatus.OK, getAllCustomers("release-check").getStatusCode());
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Client-Id", "release-check");
+        ResponseEntity<String> notFound = restTemplate.exchange(
+                "http://localhost:" + port + "/api/customers/00000000-0000-0000-0000-000000000000",
+                HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        // Assert: No concurrency slots are left held. The response can reach the client before
+        // afterCompletion runs, so allow the server thread a moment to finish
+        assertEquals(HttpStatus.NOT_FOUND, notFound.getStatusCode());
+        double inFlight = meterRegistry.get("customer.admission.inflight").gauge().value();
+        for (int i = 0; i < 50 && inFlight > 0; i++) {
+            Thread.sleep(20);
+            inFlight = meterRegistry.get("customer.admission.inflight").gauge().value();
+        }
+        assertEquals(0.0, inFlight);
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.customerapi.integration;
 
 import com.example.customerapi.CustomerApiApplication;
+import com.example.customerapi.model.BulkDeleteRequest;
 import com.example.customerapi.model.Customer;
+import com.example.customerapi.repository.CustomerRepository;
+import com.example.customerapi.service.CustomerPurgeService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -9,6 +12,9 @@ import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -53,6 +59,12 @@ public class CustomerIntegrationTest {
     @Autowired
     private TestRestTemplate restTemplate;
 
+    @Autowired
+    private CustomerRepository repository;
+
+    @Autowired
+    private CustomerPurgeService purgeService;
+
     /**
      * Constructs the base URL of the API dynamically using the injected port.
      *
@@ -81,6 +93,59 @@ public class CustomerIntegrationTest {
         assertEquals("John", response.getBody().getFirstName()); // Validate the customer's first name
     }
 
+    /**
+     * Integration test for retrying a create with an Idempotency-Key.
+     * Validates that the retry replays the original response instead of failing on the duplicate email.
+     */
+    @Test
+    public void testCreateCustomerIdempotencyKeyReplay() {
+        // Arrange: Prepare the customer payload and an Idempotency-Key header
+        Customer customer = new Customer(null, "Rita", null, "Retry", "rita.retry@example.com", "+4444444444");
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("Idempotency-Key", UUID.randomUUID().toString());
+        HttpEntity<Customer> request = new HttpEntity<>(customer, headers);
+
+        // Act: Send the same request twice, as a client retrying after a timeout would
+        ResponseEntity<Customer> first = restTemplate.postForEntity(getBaseUrl(), request, Customer.class);
+        ResponseEntity<Customer> retry = restTemplate.postForEntity(getBaseUrl(), request, Customer.class);
+
+        // Assert: The retry replays the original 201 response with the same customer ID
+        assertEquals(HttpStatus.CREATED, first.getStatusCode());
+        assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+        assertEquals(first.getBody().getId(), retry.getBody().getId());
+        assertEquals("true", retry.getHeaders().getFirst("Idempotent-Replayed"));
+    }
+
+    /**
+     * Integration test for two clients choosing the same Idempotency-Key.
+     * Validates that keys are scoped per client, so neither create is rejected or replayed.
+     */
+    @Test
+    public void testIdempotencyKeysAreScopedPerClient() {
+        // Arrange: Two clients, each with its own customer, both using the key "1"
+        HttpHeaders aliceHeaders = new HttpHeaders();
+        aliceHeaders.setContentType(MediaType.APPLICATION_JSON);
+        aliceHeaders.set("Idempotency-Key", "1");
+        aliceHeaders.set("X-Client-Id", "client-alice");
+        HttpHeaders bobHeaders = new HttpHeaders();
+        bobHeaders.setContentType(MediaType.APPLICATION_JSON);
+        bobHeaders.set("Idempotency-Key", "1");
+        bobHeaders.set("X-Client-Id", "client-bob");
+        Customer alice = new Customer(null, "Alice", null, "Scope", "alice.scope@example.com", "+5555555555");
+        Customer bob = new Customer(null, "Bob", null, "Scope", "bob.scope@example.com", "+6666666666");
+
+        // Act: Each client creates its customer with the same key
+        ResponseEntity<Customer> aliceResponse = restTemplate.postForEntity(getBaseUrl(), new HttpEntity<>(alice, aliceHeaders), Customer.class);
+        ResponseEntity<Customer> bobResponse = restTemplate.postForEntity(getBaseUrl(), new HttpEntity<>(bob, bobHeaders), Customer.class);
+
+        // Assert: Both creates ran and returned their own customer
+        assertEquals(HttpStatus.CREATED, aliceResponse.getStatusCode());
+        assertEquals(HttpStatus.CREATED, bobResponse.getStatusCode());
+        assertEquals("Bob", bobResponse.getBody().getFirstName());
+        assertNull(bobResponse.getHeaders().getFirst("Idempotent-Replayed"));
+    }
+
     /**
      * Integration test for retrieving all customers.
      * Validates that the GET /api/customers endpoint returns a list of customers.
@@ -159,4 +224,99 @@ public class CustomerIntegrationTest {
         ResponseEntity<String> response = restTemplate.getForEntity(getBaseUrl() + "/" + customerId, String.class);
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode()); // Ensure the HTTP response status is 404 Not Found
     }
+
+    /**
+     * Integration test for bulk deleting customers and purging their tombstones.
+     * Validates that deleted customers disappear from the API, that the purge job removes the rows,
+     * and that a deleted customer's email address can be reused.
+     */
+    @Test
+    public void testBulkDeleteAndPurge() {
+        // Arrange: Create two customers to delete
+        Customer first = new Customer(null, "Bulk", null, "One", "bulk.one@example.com", "+5555555555");
+        Customer second = new Customer(null, "Bulk", null, "Two", "bulk.two@example.com", "+6666666666");
+        UUID firstId = restTemplate.postForEntity(getBaseUrl(), first, Customer.class).getBody().getId();
+        UUID secondId = restTemplate.postForEntity(getBaseUrl(), second, Customer.class).getBody().getId();
+
+        // Act: Bulk delete both customers, then run the purge job
+        ResponseEntity<Map> response = restTemplate.postForEntity(getBaseUrl() + "/bulk-delete",
+                new BulkDeleteRequest(List.of(firstId, secondId)), Map.class);
+        purgeService.purgeDeletedCustomers();
+
+        // Assert: Both were deleted and are no longer retrievable or stored
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, response.getBody().get("deleted"));
+        assertEquals(HttpStatus.NOT_FOUND, restTemplate.getForEntity(getBaseUrl() + "/" + firstId, String.class).getStatusCode());
+        assertEquals(0, repository.purgeDeleted(100)); // Nothing left to purge
+
+        // Assert: The email address of a deleted customer can be used again
+        ResponseEntity<Customer> recreated = restTemplate.postForEntity(getBaseUrl(), first, Customer.class);
+        assertEquals(HttpStatus.CREATED, recreated.getStatusCode());
+    }
+
+    /**
+     * Integration test for bulk delete at its size limit.
+     * Validates that a full batch of 1000 ids is accepted, and that an oversized batch or a request
+     * without ids is rejected with 400 Bad Request.
+     */
+    @Test
+    public void testBulkDeleteLimits() {
+        // Arrange: One real customer plus 999 unknown ids, and a batch one over the limit
+        Customer customer = new Customer(null, "Bulk", null, "Cap", "bulk.cap@example.com", "+5555555556");
+        UUID customerId = restTemplate.postForEntity(getBaseUrl(), customer, Customer.class).getBody().getId();
+        List<UUID> fullBatch = new ArrayList<>(List.of(customerId));
+        while (fullBatch.size() < 1000) {
+            fullBatch.add(UUID.randomUUID());
+        }
+        List<UUID> oversizedBatch = new ArrayList<>(fullBatch);
+        oversizedBatch.add(UUID.randomUUID());
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        // Act: Send the oversized batch, the full batch, an empty body and a body without ids
+        ResponseEntity<String> oversized = restTemplate.postForEntity(getBaseUrl() + "/bulk-delete",
+                new BulkDeleteRequest(oversizedBatch), String.class);
+        ResponseEntity<Map> full = restTemplate.postForEntity(getBaseUrl() + "/bulk-delete",
+                new BulkDeleteRequest(fullBatch), Map.class);
+        ResponseEntity<String> noBody = restTemplate.postForEntity(getBaseUrl() + "/bulk-delete",
+                new HttpEntity<>(headers), String.class);
+        ResponseEntity<String> noIds = restTemplate.postForEntity(getBaseUrl() + "/bulk-delete",
+                new HttpEntity<>("{}", headers), String.class);
+
+        // Assert: Only the full batch is processed, deleting the one real customer
+        assertEquals(HttpStatus.BAD_REQUEST, oversized.getStatusCode());
+        assertEquals(HttpStatus.OK, full.getStatusCode());
+        assertEquals(1, full.getBody().get("deleted"));
+        assertEquals(HttpStatus.NOT_FOUND, restTemplate.getForEntity(getBaseUrl() + "/" + customerId, String.class).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, noBody.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, noIds.getStatusCode());
+    }
+
+    /**
+     * Integration test for reusing a deleted customer's email address before the purge job has run.
+     * Validates that both create and update can take over the address held by a tombstone.
+     */
+    @Test
+    public void testDeletedEmailCanBeReusedBeforePurge() {
+        // Arrange: Create and delete two customers, leaving their tombstones in place
+        Customer deletedForCreate = new Customer(null, "Gone", null, "One", "gone.one@example.com", "+7777777777");
+        Customer deletedForUpdate = new Customer(null, "Gone", null, "Two", "gone.two@example.com", "+7777777778");
+        restTemplate.delete(getBaseUrl() + "/" + restTemplate.postForEntity(getBaseUrl(), deletedForCreate, Customer.class).getBody().getId());
+        restTemplate.delete(getBaseUrl() + "/" + restTemplate.postForEntity(getBaseUrl(), deletedForUpdate, Customer.class).getBody().getId());
+        Customer live = new Customer(null, "Live", null, "Customer", "live.customer@example.com", "+7777777779");
+        UUID liveId = restTemplate.postForEntity(getBaseUrl(), live, Customer.class).getBody().getId();
+
+        // Act: Create a customer with the first deleted address and move the live customer to the second
+        ResponseEntity<Customer> created = restTemplate.postForEntity(getBaseUrl(), deletedForCreate, Customer.class);
+        Customer moved = new Customer(liveId, "Live", null, "Customer", "gone.two@example.com", "+7777777779");
+        ResponseEntity<Customer> updated = restTemplate.exchange(getBaseUrl() + "/" + liveId, HttpMethod.PUT,
+                new HttpEntity<>(moved), Customer.class);
+
+        // Assert: Both succeed instead of failing on the unique constraint
+        assertEquals(HttpStatus.CREATED, created.getStatusCode());
+        assertNotNull(created.getBody().getId());
+        assertEquals(HttpStatus.OK, updated.getStatusCode());
+        assertEquals("gone.two@example.com", restTemplate.getForEntity(getBaseUrl() + "/" + liveId, Customer.class)
+                .getBody().getEmailAddress());
+    }
 }
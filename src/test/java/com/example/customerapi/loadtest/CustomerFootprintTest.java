@@ -0,0 +1,142 @@
+package com.example.customerapi.loadtest;
+
+import com.example.customerapi.CustomerApiApplication;
+import com.example.customerapi.cache.CompactCustomer;
+import com.example.customerapi.cache.NameInterner;
+import com.example.customerapi.model.Customer;
+import com.example.customerapi.model.CustomerView;
+import com.example.customerapi.repository.CustomerRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Heap-per-customer measurement for the read path, before and after the projection and compact cache changes.
+ *
+ * - managed: entities loaded through a real persistence context, including Hibernate's dirty-checking snapshots
+ * - projection: CustomerView records from CustomerRepository.findAllViews(), as returned by in-memory H2
+ *   and with freshly decoded strings as a network JDBC driver would return them
+ * - compact: CompactCustomer values as held by CustomerCache
+ *
+ * Each figure is the difference in used heap with and without the objects held, after forcing GC
+ * until the reading settles. It is an approximation (JOL is not available in this build), so it runs
+ * only with the loadtest profile and skips itself if the JVM ignores explicit GC requests.
+ */
+@Tag("loadtest")
+@SpringBootTest(
+        classes = CustomerApiApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.jpa.show-sql=false"
+)
+public class CustomerFootprintTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerFootprintTest.class);
+
+    private static final int COUNT = Integer.getInteger("loadtest.footprint.count", 100_000);
+    private static final String[] FIRST_NAMES = {"John", "Jane", "Michael", "Sarah", "David"};
+    private static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones"};
+
+    @Autowired
+    private CustomerRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void measureHeapPerCustomer() throws InterruptedException {
+        assumeTrue(explicitGcWorks(), "JVM ignores System.gc(); heap readings would be meaningless");
+        repository.saveAll(IntStream.range(0, COUNT)
+                .mapToObj(i -> new Customer(null, FIRST_NAMES[i % 5], null, LAST_NAMES[i % 5],
+                        "footprint-" + i + "@example.com", String.format("+3%010d", i)))
+                .toList());
+
+        // Every figure is taken by releasing the objects and comparing, so earlier phases cannot skew it
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        List<Customer> managed = entityManager.createQuery("select c from Customer c", Customer.class).getResultList();
+        long withManaged = settledUsedHeap();
+        Reference.reachabilityFence(managed);
+        entityManager.close();
+        managed = null;
+        long managedBytes = (withManaged - settledUsedHeap()) / COUNT;
+
+        List<CustomerView> views = repository.findAllViews();
+        // In-memory H2 hands out the String instances it stores, so the views above share them with the
+        // database. A network JDBC driver decodes fresh strings per row; these copies model that case.
+        List<CustomerView> fresh = views.stream().map(CustomerFootprintTest::freshCopy).toList();
+        NameInterner names = new NameInterner(1000);
+        List<CompactCustomer> compact = views.stream().map(view -> CompactCustomer.from(view, names)).toList();
+        long withAll = settledUsedHeap();
+        Reference.reachabilityFence(compact);
+        compact = null;
+        long withViews = settledUsedHeap();
+        Reference.reachabilityFence(fresh);
+        fresh = null;
+        long withSharedViews = settledUsedHeap();
+        Reference.reachabilityFence(views);
+        views = null;
+        long compactBytes = (withAll - withViews) / COUNT;
+        long freshProjectionBytes = (withViews - withSharedViews) / COUNT;
+        long projectionBytes = (withSharedViews - settledUsedHeap()) / COUNT;
+
+        logger.info("Heap per customer ({} rows): managed entity={} bytes, projection={} bytes (strings shared with H2), "
+                        + "projection with fresh strings={} bytes, compact={} bytes",
+                COUNT, managedBytes, projectionBytes, freshProjectionBytes, compactBytes);
+        assertTrue(projectionBytes < managedBytes, "Projection should be smaller than a managed entity");
+        assertTrue(compactBytes < freshProjectionBytes, "Compact form should be smaller than the projection");
+    }
+
+    private static CustomerView freshCopy(CustomerView view) {
+        return new CustomerView(new UUID(view.id().getMostSignificantBits(), view.id().getLeastSignificantBits()),
+                copy(view.firstName()), copy(view.middleName()), copy(view.lastName()),
+                copy(view.emailAddress()), copy(view.phoneNumber()));
+    }
+
+    private static String copy(String value) {
+        return value == null ? null : new String(value);
+    }
+
+    private static boolean explicitGcWorks() throws InterruptedException {
+        long before = gcCount();
+        System.gc();
+        Thread.sleep(50);
+        return gcCount() > before;
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .sum();
+    }
+
+    /**
+     * Used heap after at least three collections and two consecutive readings within 64 KB of each other.
+     */
+    private static long settledUsedHeap() throws InterruptedException {
+        long previous = Long.MAX_VALUE;
+        for (int i = 0; i < 20; i++) {
+            System.gc();
+            Thread.sleep(50);
+            long used = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+            if (i >= 2 && Math.abs(previous - used) < 64 * 1024) {
+                return used;
+            }
+            previous = used;
+        }
+        return previous;
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.customerapi.loadtest;
+
+import com.example.customerapi.CustomerApiApplication;
+import com.example.customerapi.model.Customer;
+import com.example.customerapi.model.CustomerView;
+import com.example.customerapi.repository.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Load test suite for the Customer API.
+ *
+ * Starts the full application on a random port and drives each {@link LoadScenario} with the
+ * open-loop {@link OpenLoopDriver}, then writes a latency and throughput report per scenario.
+ * Every scenario starts from the same seeded rows, so its numbers do not depend on which
+ * scenarios ran before it.
+ * Excluded from the normal build; run it with the loadtest profile:
+ *
+ * - mvn test -Ploadtest
+ * - mvn test -Ploadtest -Dloadtest.rate=500 -Dloadtest.duration=PT60S -Dloadtest.scenarios=READ_HEAVY,LIST_ALL
+ *
+ * Properties (all optional):
+ * - loadtest.rate: offered requests per second (default 200)
+ * - loadtest.duration / loadtest.warmup: ISO-8601 durations (default PT30S / PT5S)
+ * - loadtest.scenarios: comma separated scenario names (default all)
+ * - loadtest.seed: customers created before the run (default 1000)
+ * - loadtest.minExpectedRatio: minimum share of responses with the scenario's expected status (default 0.9)
+ * - loadtest.reportDir: report directory (default target/loadtest)
+ * - loadtest.commit: label for the report directory (default the current git commit)
+ */
+@Tag("loadtest")
+@SpringBootTest(
+        classes = CustomerApiApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                // Per-request logging and SQL echo would dominate the measurement
+                "logging.level.com.example.customerapi=WARN",
+                "logging.level.com.example.customerapi.loadtest=INFO",
+                "spring.jpa.show-sql=false",
+                "management.tracing.sampling.probability=0.0"
+        }
+)
+public class CustomerLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerLoadTest.class);
+
+    private static final double RATE = Double.parseDouble(System.getProperty("loadtest.rate", "200"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("loadtest.duration", "PT30S"));
+    private static final Duration WARMUP = Duration.parse(System.getProperty("loadtest.warmup", "PT5S"));
+    private static final int SEED = Integer.getInteger("loadtest.seed", 1000);
+    private static final Path REPORT_DIR = Path.of(System.getProperty("loadtest.reportDir", "target/loadtest"));
+    private static final double MIN_EXPECTED_RATIO = Double.parseDouble(System.getProperty("loadtest.minExpectedRatio", "0.9"));
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+    private static final int RESET_BATCH = 1000;
+
+    private static List<UUID> seededIds;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CustomerRepository repository;
+
+    static Stream<LoadScenario> scenarios() {
+        String selected = System.getProperty("loadtest.scenarios");
+        if (selected == null || selected.isBlank()) {
+            return Arrays.stream(LoadScenario.values());
+        }
+        return Arrays.stream(selected.split(",")).map(String::trim).map(LoadScenario::valueOf);
+    }
+
+    @BeforeEach
+    void seed() {
+        if (seededIds == null) {
+            List<Customer> customers = IntStream.range(0, SEED)
+                    .mapToObj(i -> new Customer(null, "Seed", null, "Customer" + i, "seed-" + i + "@example.com",
+                            String.format("+2%010d", i)))
+                    .toList();
+            seededIds = new ArrayList<>(repository.saveAll(customers).stream().map(Customer::getId).toList());
+        }
+        resetToSeed();
+    }
+
+    /**
+     * Removes the customers earlier scenarios created. Scenarios only ever add rows, so deleting
+     * everything outside the seed set (and purging the tombstones) restores the starting table.
+     */
+    private void resetToSeed() {
+        Set<UUID> seeded = new HashSet<>(seededIds);
+        List<UUID> created = repository.findAllViews().stream()
+                .map(CustomerView::id)
+                .filter(id -> !seeded.contains(id))
+                .toList();
+        for (int from = 0; from < created.size(); from += RESET_BATCH) {
+            repository.softDeleteByIdIn(created.subList(from, Math.min(from + RESET_BATCH, created.size())));
+        }
+        while (repository.purgeDeleted(RESET_BATCH) > 0) {
+            // keep purging until no tombstones remain
+        }
+        assertEquals(seededIds.size(), repository.count(), "Customer table was not reset to the seed set");
+    }
+
+    @ParameterizedTest
+    @MethodSource("scenarios")
+    void runScenario(LoadScenario scenario) throws Exception {
+        URI baseUri = URI.create("http://localhost:" + port + "/api/");
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+        LoadScenario.Context context = new LoadScenario.Context(baseUri, seededIds, runId);
+        // Warmup gets its own run ID so its creates are valid requests that cannot collide with the measured run
+        LoadScenario.Context warmupContext = new LoadScenario.Context(baseUri, seededIds, runId + "-warmup");
+
+        try (OpenLoopDriver driver = new OpenLoopDriver(Math.max(4, Runtime.getRuntime().availableProcessors()))) {
+            // Warm up the JIT, connection pool and caches; the result is discarded
+            driver.run(sequence -> scenario.next(sequence, warmupContext), RATE, WARMUP, DRAIN_TIMEOUT);
+            resetToSeed();
+            long startingRows = repository.count();
+
+            OpenLoopDriver.Result result = driver.run(sequence -> scenario.next(sequence, context), RATE, DURATION, DRAIN_TIMEOUT);
+            Path report = LoadReport.write(REPORT_DIR, commit(), scenario, DURATION, startingRows, result);
+
+            logger.info("{}: {} req/s, p50={}ms p99={}ms p999={}ms, statuses={}, report={}",
+                    scenario, String.format("%.1f", result.throughput()),
+                    millis(result.correctedLatency().getValueAtPercentile(50)),
+                    millis(result.correctedLatency().getValueAtPercentile(99)),
+                    millis(result.correctedLatency().getValueAtPercentile(99.9)),
+                    result.statusCounts(), report);
+            assertTrue(result.sent() > 0);
+            assertEquals(0, result.timedOut(), "Requests still outstanding after the drain timeout");
+            double expectedRatio = result.ratio(scenario::isExpected);
+            assertTrue(expectedRatio >= MIN_EXPECTED_RATIO, String.format(
+                    "Only %.1f%% of %s responses had the expected status: %s",
+                    expectedRatio * 100, scenario, result.statusCounts()));
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1e6);
+    }
+
+    private static String commit() {
+        String commit = System.getProperty("loadtest.commit");
+        if (commit != null && !commit.isBlank()) {
+            return commit;
+        }
+        try {
+            Process git = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+            String output = new String(git.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            return git.waitFor() == 0 && !output.isEmpty() ? output : "unknown";
+        } catch (IOException | InterruptedException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.customerapi.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes a load test result to {@code <dir>/<commit>/<scenario>.json} plus HdrHistogram
+ * {@code .hgrm} percentile distributions, so runs on different commits can be compared
+ * side by side or plotted with the HdrHistogram plotter.
+ */
+public final class LoadReport {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private LoadReport() {
+    }
+
+    /**
+     * @param startingRows customers in the table when the measured run began; list latency scales with it
+     */
+    public static Path write(Path dir, String commit, LoadScenario scenario, Duration duration, long startingRows,
+                             OpenLoopDriver.Result result) throws IOException {
+        Path target = Files.createDirectories(dir.resolve(commit));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("scenario", scenario.name());
+        report.put("commit", commit);
+        report.put("timestamp", Instant.now().toString());
+        report.put("targetRatePerSecond", result.targetRate());
+        report.put("durationSeconds", duration.toSeconds());
+        report.put("startingRows", startingRows);
+        report.put("sent", result.sent());
+        report.put("timedOut", result.timedOut());
+        report.put("errors", result.errors());
+        report.put("statusCounts", result.statusCounts());
+        report.put("expectedStatusRatio", round(result.ratio(scenario::isExpected)));
+        report.put("throughputPerSecond", round(result.throughput()));
+        report.put("successThroughputPerSecond", round(result.successThroughput()));
+        report.put("latencyMillis", percentiles(result.correctedLatency()));
+        report.put("serviceTimeMillis", percentiles(result.serviceTime()));
+
+        Path json = target.resolve(scenario.name().toLowerCase() + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(json.toFile(), report);
+        writeDistribution(target.resolve(scenario.name().toLowerCase() + "-latency.hgrm"), result.correctedLatency());
+        writeDistribution(target.resolve(scenario.name().toLowerCase() + "-service.hgrm"), result.serviceTime());
+        return json;
+    }
+
+    private static Map<String, Double> percentiles(Histogram histogram) {
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        percentiles.put("p50", millis(histogram.getValueAtPercentile(50)));
+        percentiles.put("p90", millis(histogram.getValueAtPercentile(90)));
+        percentiles.put("p99", millis(histogram.getValueAtPercentile(99)));
+        percentiles.put("p999", millis(histogram.getValueAtPercentile(99.9)));
+        percentiles.put("max", millis(histogram.getMaxValue()));
+        return percentiles;
+    }
+
+    private static void writeDistribution(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(out, NANOS_PER_MILLI);
+        }
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / NANOS_PER_MILLI);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
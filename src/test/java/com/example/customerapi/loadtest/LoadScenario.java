@@ -0,0 +1,98 @@
+package com.example.customerapi.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Traffic mixes the load driver can replay against /api/customers.
+ * Each scenario turns a request sequence number into the next HTTP request.
+ */
+public enum LoadScenario {
+
+    /** 90% GET by ID, 10% create. */
+    READ_HEAVY {
+        @Override
+        HttpRequest next(long sequence, Context context) {
+            return ThreadLocalRandom.current().nextInt(100) < 90 ? getExisting(sequence, context) : create(sequence, context);
+        }
+    },
+
+    /** 20% GET by ID, 80% create. */
+    WRITE_HEAVY {
+        @Override
+        HttpRequest next(long sequence, Context context) {
+            return ThreadLocalRandom.current().nextInt(100) < 20 ? getExisting(sequence, context) : create(sequence, context);
+        }
+    },
+
+    /** GET by random, unknown IDs: every request is a 404. */
+    NOT_FOUND_SCAN {
+        @Override
+        HttpRequest next(long sequence, Context context) {
+            return request(context.baseUri().resolve("customers/" + UUID.randomUUID()), sequence).GET().build();
+        }
+
+        @Override
+        boolean isExpected(int status) {
+            return status == 404;
+        }
+    },
+
+    /** GET the full customer list. */
+    LIST_ALL {
+        @Override
+        HttpRequest next(long sequence, Context context) {
+            return request(context.baseUri().resolve("customers"), sequence).GET().build();
+        }
+    };
+
+    // Spread requests over many client keys so per-client rate limits reflect a realistic population
+    private static final int CLIENT_KEYS = 1000;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * @param sequence non-negative request number; also used to make created email addresses unique per run
+     */
+    abstract HttpRequest next(long sequence, Context context);
+
+    /** Whether a response status is the normal outcome for this scenario. */
+    boolean isExpected(int status) {
+        return status >= 200 && status < 300;
+    }
+
+    /**
+     * Fixed inputs for a run.
+     *
+     * @param baseUri     the API root ending in a slash, e.g. {@code http://localhost:8080/api/}
+     * @param existingIds customers seeded before the run
+     * @param runId       unique per run so created email addresses never collide
+     */
+    record Context(URI baseUri, List<UUID> existingIds, String runId) {
+    }
+
+    private static HttpRequest getExisting(long sequence, Context context) {
+        List<UUID> ids = context.existingIds();
+        UUID id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        return request(context.baseUri().resolve("customers/" + id), sequence).GET().build();
+    }
+
+    private static HttpRequest create(long sequence, Context context) {
+        String body = String.format("{\"firstName\":\"Load\",\"lastName\":\"Test\","
+                        + "\"emailAddress\":\"load-%s-%d@example.com\",\"phoneNumber\":\"+1%010d\"}",
+                context.runId(), sequence, sequence % 10_000_000_000L);
+        return request(context.baseUri().resolve("customers"), sequence)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static HttpRequest.Builder request(URI uri, long sequence) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("X-Client-Id", "loadgen-" + (sequence % CLIENT_KEYS));
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.customerapi.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntPredicate;
+import java.util.function.LongFunction;
+
+/**
+ * Open-loop, constant-arrival-rate load driver.
+ *
+ * Request {@code i} is scheduled at {@code start + i / rate} regardless of how many earlier
+ * requests are still outstanding, so a slow server cannot throttle the offered load.
+ * Latency is recorded twice: from the scheduled send time (corrected for coordinated
+ * omission) and from the actual send time (service time as seen by the client).
+ */
+public class OpenLoopDriver implements AutoCloseable {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final ExecutorService executor;
+    private final HttpClient client;
+
+    public OpenLoopDriver(int threads) {
+        this.executor = Executors.newFixedThreadPool(threads);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(executor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * Offers {@code ratePerSecond} requests per second for {@code duration}, then waits
+     * up to {@code drainTimeout} for outstanding responses.
+     */
+    public Result run(LongFunction<HttpRequest> requests, double ratePerSecond, Duration duration, Duration drainTimeout)
+            throws InterruptedException {
+        Recorder corrected = new Recorder(SIGNIFICANT_DIGITS);
+        Recorder service = new Recorder(SIGNIFICANT_DIGITS);
+        Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+        LongAdder errors = new LongAdder();
+        AtomicInteger outstanding = new AtomicInteger();
+
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long sent = 0;
+        while (true) {
+            long intended = start + (long) (sent * intervalNanos);
+            if (intended >= end) {
+                break;
+            }
+            long now;
+            while ((now = System.nanoTime()) < intended) {
+                LockSupport.parkNanos(intended - now);
+            }
+            HttpRequest request = requests.apply(sent++);
+            long actual = System.nanoTime();
+            outstanding.incrementAndGet();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, ex) -> {
+                long done = System.nanoTime();
+                corrected.recordValue(done - intended);
+                service.recordValue(done - actual);
+                if (ex != null) {
+                    errors.increment();
+                } else {
+                    statusCounts.computeIfAbsent(response.statusCode(), code -> new LongAdder()).increment();
+                }
+                outstanding.decrementAndGet();
+            });
+        }
+
+        long drainDeadline = System.nanoTime() + drainTimeout.toNanos();
+        while (outstanding.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        Map<Integer, Long> statuses = new TreeMap<>();
+        statusCounts.forEach((code, count) -> statuses.put(code, count.sum()));
+        return new Result(ratePerSecond, sent, outstanding.get(), errors.sum(), statuses, elapsedNanos,
+                corrected.getIntervalHistogram(), service.getIntervalHistogram());
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Outcome of one run. Histogram values are in nanoseconds.
+     */
+    public record Result(double targetRate, long sent, int timedOut, long errors, Map<Integer, Long> statusCounts,
+                         long elapsedNanos, Histogram correctedLatency, Histogram serviceTime) {
+
+        public double throughput() {
+            return perSecond(sent - timedOut - errors);
+        }
+
+        /** Throughput counting only 2xx responses, so shed (429) requests do not inflate it. */
+        public double successThroughput() {
+            return perSecond(count(status -> status >= 200 && status < 300));
+        }
+
+        /** Share of sent requests that completed with a status accepted by {@code expected}. */
+        public double ratio(IntPredicate expected) {
+            return sent == 0 ? 0.0 : count(expected) / (double) sent;
+        }
+
+        private long count(IntPredicate statuses) {
+            return statusCounts.entrySet().stream()
+                    .filter(status -> statuses.test(status.getKey()))
+                    .mapToLong(Map.Entry::getValue)
+                    .sum();
+        }
+
+        private double perSecond(long count) {
+            return count * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.customerapi.service;
+
+import com.example.customerapi.repository.CustomerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CustomerPurgeServiceTest {
+
+    @InjectMocks
+    private CustomerPurgeService purgeService;
+
+    @Mock
+    private CustomerRepository repository;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private PurgeProperties properties = new PurgeProperties();
+
+    @BeforeEach
+    void setUp() {
+        properties.setBatchSize(100);
+        properties.setMaxBatchesPerRun(3);
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testPurgeRunsUntilBatchIsShort() {
+        when(repository.purgeDeleted(100)).thenReturn(100, 40);
+
+        int purged = purgeService.purgeDeletedCustomers();
+
+        assertEquals(140, purged);
+        verify(repository, times(2)).purgeDeleted(100);
+        assertEquals(140.0, meterRegistry.get("customer.purge.rows").counter().count());
+        assertEquals(1, meterRegistry.get("customer.purge.duration").timer().count());
+    }
+
+    @Test
+    void testPurgeIsBoundedPerRun() {
+        when(repository.purgeDeleted(100)).thenReturn(100);
+
+        int purged = purgeService.purgeDeletedCustomers();
+
+        assertEquals(300, purged);
+        verify(repository, times(3)).purgeDeleted(100);
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.customerapi.service;
 
+import com.example.customerapi.cache.CustomerCache;
 import com.example.customerapi.exception.CustomerNotFoundException;
 import com.example.customerapi.model.Customer;
+import com.example.customerapi.model.CustomerView;
 import com.example.customerapi.repository.CustomerRepository;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -10,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.Arrays;
 import java.util.List;
@@ -33,6 +36,9 @@ class CustomerServiceTest {
     @Mock
     private Counter counter;
 
+    @Mock
+    private CustomerCache cache;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -66,40 +72,53 @@ class CustomerServiceTest {
 
     @Test
     void testGetAllCustomers() {
-        Customer customer1 = new Customer(UUID.randomUUID(), "John", "M", "Doe", "john.doe@example.com", "+1234567890");
-        Customer customer2 = new Customer(UUID.randomUUID(), "Jane", null, "Doe", "jane.doe@example.com", "+0987654321");
+        CustomerView customer1 = new CustomerView(UUID.randomUUID(), "John", "M", "Doe", "john.doe@example.com", "+1234567890");
+        CustomerView customer2 = new CustomerView(UUID.randomUUID(), "Jane", null, "Doe", "jane.doe@example.com", "+0987654321");
 
-        when(repository.findAll()).thenReturn(Arrays.asList(customer1, customer2));
+        when(repository.findAllViews()).thenReturn(Arrays.asList(customer1, customer2));
 
-        List<Customer> customers = service.getAllCustomers();
+        List<CustomerView> customers = service.getAllCustomers();
 
         assertNotNull(customers);
         assertEquals(2, customers.size());
-        verify(repository, times(1)).findAll();
+        verify(repository, times(1)).findAllViews();
     }
 
     @Test
     void testGetCustomerById() {
         UUID customerId = UUID.randomUUID();
-        Customer customer = new Customer(customerId, "John", "M", "Doe", "john.doe@example.com", "+1234567890");
-        when(repository.findById(customerId)).thenReturn(Optional.of(customer));
+        CustomerView customer = new CustomerView(customerId, "John", "M", "Doe", "john.doe@example.com", "+1234567890");
+        when(repository.findViewById(customerId)).thenReturn(Optional.of(customer));
 
-        Customer foundCustomer = service.getCustomerById(customerId);
+        CustomerView foundCustomer = service.getCustomerById(customerId);
 
         assertNotNull(foundCustomer);
         assertEquals(customer, foundCustomer);
-        verify(repository, times(1)).findById(customerId);
+        verify(repository, times(1)).findViewById(customerId);
+        verify(cache, times(1)).put(eq(customer), anyLong());
+    }
+
+    @Test
+    void testGetCustomerByIdFromCache() {
+        UUID customerId = UUID.randomUUID();
+        CustomerView customer = new CustomerView(customerId, "John", "M", "Doe", "john.doe@example.com", "+1234567890");
+        when(cache.get(customerId)).thenReturn(Optional.of(customer));
+
+        CustomerView foundCustomer = service.getCustomerById(customerId);
+
+        assertEquals(customer, foundCustomer);
+        verify(repository, never()).findViewById(customerId);
     }
 
     @Test
     void testGetCustomerByIdNotFound() {
         UUID customerId = UUID.randomUUID();
-        when(repository.findById(customerId)).thenReturn(Optional.empty());
+        when(repository.findViewById(customerId)).thenReturn(Optional.empty());
 
         Exception exception = assertThrows(CustomerNotFoundException.class, () -> service.getCustomerById(customerId));
 
         assertEquals("Customer not found with ID: " + customerId, exception.getMessage());
-        verify(repository, times(1)).findById(customerId);
+        verify(repository, times(1)).findViewById(customerId);
     }
 
     @Test
@@ -117,29 +136,98 @@ class CustomerServiceTest {
         assertEquals("Johnny", updatedCustomer.getFirstName());
         verify(repository, times(1)).findById(customerId);
         verify(repository, times(1)).save(any(Customer.class));
+        verify(cache, times(1)).invalidate(customerId);
+    }
+
+    @Test
+    void testCreateCustomerDoesNotTouchTombstonesOnCommonPath() {
+        Customer customer = new Customer(null, "John", "M", "Doe", "john.doe@example.com", "+1234567890");
+        when(repository.save(customer)).thenReturn(customer);
+
+        service.createCustomer(customer);
+
+        verify(repository, never()).purgeDeletedByEmailAddress(any());
+    }
+
+    @Test
+    void testCreateCustomerReclaimsEmailFromTombstone() {
+        Customer customer = new Customer(null, "John", "M", "Doe", "john.doe@example.com", "+1234567890");
+        when(repository.save(customer))
+                .thenThrow(new DataIntegrityViolationException("duplicate email"))
+                .thenReturn(customer);
+        when(repository.purgeDeletedByEmailAddress(customer.getEmailAddress())).thenReturn(1);
+
+        Customer createdCustomer = service.createCustomer(customer);
+
+        assertNotNull(createdCustomer);
+        verify(repository, times(1)).purgeDeletedByEmailAddress(customer.getEmailAddress());
+        verify(repository, times(2)).save(customer);
+    }
+
+    @Test
+    void testCreateCustomerConstraintViolationWithoutTombstone() {
+        Customer customer = new Customer(null, "John", "M", "Doe", "john.doe@example.com", "+1234567890");
+        when(repository.save(customer)).thenThrow(new DataIntegrityViolationException("duplicate email"));
+        when(repository.purgeDeletedByEmailAddress(customer.getEmailAddress())).thenReturn(0);
+
+        assertThrows(DataIntegrityViolationException.class, () -> service.createCustomer(customer));
+        verify(repository, times(1)).save(customer);
+    }
+
+    @Test
+    void testUpdateCustomerReclaimsEmailFromTombstone() {
+        UUID customerId = UUID.randomUUID();
+        Customer existingCustomer = new Customer(customerId, "John", "M", "Doe", "john.doe@example.com", "+1234567890");
+        Customer updatedDetails = new Customer(null, "John", "M", "Doe", "reused@example.com", "+1234567890");
+        when(repository.findById(customerId)).thenReturn(Optional.of(existingCustomer));
+        when(repository.save(existingCustomer))
+                .thenThrow(new DataIntegrityViolationException("duplicate email"))
+                .thenReturn(existingCustomer);
+        when(repository.purgeDeletedByEmailAddress("reused@example.com")).thenReturn(1);
+
+        Customer updatedCustomer = service.updateCustomer(customerId, updatedDetails);
+
+        assertEquals(customerId, updatedCustomer.getId());
+        verify(repository, times(2)).save(existingCustomer);
     }
 
     @Test
     void testDeleteCustomer() {
         UUID customerId = UUID.randomUUID();
-        Customer customer = new Customer(customerId, "John", "M", "Doe", "john.doe@example.com", "+1234567890");
-        when(repository.findById(customerId)).thenReturn(Optional.of(customer));
-        doNothing().when(repository).delete(customer);
+        when(repository.softDeleteById(customerId)).thenReturn(1);
 
         service.deleteCustomer(customerId);
 
-        verify(repository, times(1)).findById(customerId);
-        verify(repository, times(1)).delete(customer);
+        verify(repository, times(1)).softDeleteById(customerId);
+        verify(repository, never()).findById(customerId);
+        verify(cache, times(1)).invalidate(customerId);
     }
 
     @Test
     void testDeleteCustomerNotFound() {
         UUID customerId = UUID.randomUUID();
-        when(repository.findById(customerId)).thenReturn(Optional.empty());
+        when(repository.softDeleteById(customerId)).thenReturn(0);
 
         Exception exception = assertThrows(CustomerNotFoundException.class, () -> service.deleteCustomer(customerId));
 
         assertEquals("Customer not found with ID: " + customerId, exception.getMessage());
-        verify(repository, times(1)).findById(customerId);
+        verify(repository, times(1)).softDeleteById(customerId);
+    }
+
+    @Test
+    void testDeleteCustomers() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(repository.softDeleteByIdIn(ids)).thenReturn(2);
+
+        int deleted = service.deleteCustomers(ids);
+
+        assertEquals(2, deleted);
+        verify(repository, times(1)).softDeleteByIdIn(ids);
+    }
+
+    @Test
+    void testDeleteCustomersRejectsEmptyList() {
+        assertThrows(IllegalArgumentException.class, () -> service.deleteCustomers(List.of()));
+        verify(repository, never()).softDeleteByIdIn(any());
     }
 }